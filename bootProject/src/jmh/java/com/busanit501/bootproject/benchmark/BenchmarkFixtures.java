@@ -0,0 +1,40 @@
+package com.busanit501.bootproject.benchmark;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 가짜 데이터 생성기 (같은 seed 면 항상 같은 데이터)
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] REGIONS = {"부산", "해운대", "광안리", "서면", "남포동", "기장", "동래", "송정", "Seoul", "Busan"};
+    private static final String[] PETS = {"강아지", "고양이", "포메", "푸들", "말티즈", "시바견", "리트리버", "Corgi", "Beagle"};
+    private static final String[] ACTIVITIES = {"산책", "모임", "놀이", "훈련", "캠핑", "카페", "운동", "Walk", "Meetup"};
+    private static final String[] PARTICLES = {"", "에서", "의", "와", "랑", "!!", "~", "^^", " 🐶", "(주말)"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * "부산 강아지 산책에서!!" 같은 매칭방 제목 count 개
+     */
+    static String[] roomTitles(Random random, int count) {
+        String[] titles = new String[count];
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            title.setLength(0);
+            title.append(pick(random, REGIONS)).append(' ')
+                    .append(pick(random, PETS)).append(' ')
+                    .append(pick(random, ACTIVITIES)).append(pick(random, PARTICLES));
+            if (random.nextInt(4) == 0) {
+                title.append(" the ").append(i % 1000).append("번째 모임");
+            }
+            titles[i] = title.toString();
+        }
+        return titles;
+    }
+
+    static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,105 @@
+package com.busanit501.bootproject.benchmark;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import com.busanit501.bootproject.service.KeywordTokenizer;
+import com.busanit501.bootproject.service.TopKeywordService;
+import com.busanit501.bootproject.service.WordCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 키워드 단어 집계: 기존 정규식 방식(toLowerCase + replaceAll + split + HashMap&lt;String, Long&gt;)과
+ * KeywordTokenizer + WordCounter 비교, 그리고 운영 경로인 TopKeywordService.update (매칭방 1건 수정 반영)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=KeywordTokenizer
+ * (-prof gc 를 함께 보면 할당량 차이를 확인할 수 있습니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeywordTokenizerBenchmark {
+
+    private static final Set<String> STOPWORDS = KeywordTokenizer.DEFAULT_STOPWORDS;
+    private static final String[] PLACES = {"부산 해운대", "부산 서면", "부산 광안리"};
+
+    @Param({"100000"})
+    public int titleCount;
+
+    private String[] titles;
+    private KeywordTokenizer tokenizer;
+    private TopKeywordService keywordService;
+    private RoomSearchDocument[] edits;
+    private int nextEdit;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        titles = BenchmarkFixtures.roomTitles(random, titleCount);
+        tokenizer = new KeywordTokenizer(STOPWORDS);
+
+        // 모든 방을 집계해 둔 뒤, 측정 중에는 방 제목을 다른 제목으로 바꾸는 수정만 반영
+        keywordService = new TopKeywordService(null, tokenizer);
+        for (int i = 0; i < titleCount; i++) {
+            keywordService.update(document(i, titles[i], random));
+        }
+        edits = new RoomSearchDocument[titleCount];
+        for (int i = 0; i < titleCount; i++) {
+            edits[i] = document(i, titles[(i + 1) % titleCount], random);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Long> legacyRegexSplit() {
+        Map<String, Long> wordCount = new HashMap<>();
+        for (String text : titles) {
+            if (text != null) {
+                String[] words = text.toLowerCase().replaceAll("[^a-z0-9가-힣 ]", "").split("\\s+");
+                for (String word : words) {
+                    if (!STOPWORDS.contains(word) && word.length() > 1) {
+                        wordCount.put(word, wordCount.getOrDefault(word, 0L) + 1);
+                    }
+                }
+            }
+        }
+        return wordCount;
+    }
+
+    @Benchmark
+    public WordCounter singlePassTokenizer() {
+        WordCounter counter = new WordCounter();
+        for (String text : titles) {
+            tokenizer.count(text, counter, 1);
+        }
+        return counter;
+    }
+
+    /**
+     * 매칭방 1건 수정 시 인기 키워드 반영 비용 (이전 단어 차감 + 새 단어 가산 + 상위 키워드 갱신)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> topKeywordUpdate() {
+        RoomSearchDocument edit = edits[nextEdit];
+        nextEdit = (nextEdit + 1) % edits.length;
+        keywordService.update(edit);
+        return keywordService.getTopKeywords(10);
+    }
+
+    private static RoomSearchDocument document(long roomId, String title, Random random) {
+        return new RoomSearchDocument(roomId, title, null, BenchmarkFixtures.pick(random, PLACES),
+                List.of("시바견", "푸들"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.busanit501.bootproject.benchmark;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import com.busanit501.bootproject.enums.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 매칭 서비스 벤치마크용 메모리 데이터
+ * 방 roomCount 개, 방마다 참가자 participantsPerRoom 명(1명당 펫 1마리, 첫 번째는 호스트)을 만들고
+ * DB 에서 fetch join 으로 읽어온 것처럼 엔티티 사이의 연관관계를 모두 채워 둡니다.
+ */
+final class MatchingFixture {
+
+    private static final RoomParticipant.ParticipantStatus[] GUEST_STATUSES = {
+            RoomParticipant.ParticipantStatus.Accepted,
+            RoomParticipant.ParticipantStatus.Pending,
+            RoomParticipant.ParticipantStatus.Pending,
+            RoomParticipant.ParticipantStatus.Rejected
+    };
+
+    final List<MatchingRoom> rooms = new ArrayList<>();
+    final List<RoomParticipant> participants = new ArrayList<>();
+    final List<Pet> pets = new ArrayList<>();
+    final List<RoomSearchDocument> documents = new ArrayList<>();
+
+    MatchingFixture(int roomCount, int participantsPerRoom, long seed) {
+        Random random = new Random(seed);
+        String[] titles = BenchmarkFixtures.roomTitles(random, roomCount);
+        long nextUserId = 1;
+        long nextPetId = 1;
+        long nextParticipantId = 1;
+
+        for (int r = 0; r < roomCount; r++) {
+            User host = user(nextUserId++);
+            MatchingRoom room = MatchingRoom.builder()
+                    .roomId((long) r + 1)
+                    .title(titles[r])
+                    .description("함께 산책하고 이야기 나눠요 " + r)
+                    .place(BenchmarkFixtures.pick(random, new String[]{"부산 해운대", "부산 서면", "부산 광안리", "기장 송정"}))
+                    .meetingDate(LocalDate.of(2025, 1, 1).plusDays(r % 365))
+                    .meetingTime(LocalTime.of(9 + r % 10, 0))
+                    .maxParticipants((long) participantsPerRoom)
+                    .user(host)
+                    .build();
+
+            List<String> petTypes = new ArrayList<>();
+            long accepted = 0;
+            for (int p = 0; p < participantsPerRoom; p++) {
+                User member = p == 0 ? host : user(nextUserId++);
+                Pet pet = pet(nextPetId++, member, random);
+                RoomParticipant.ParticipantStatus status = p == 0
+                        ? RoomParticipant.ParticipantStatus.Accepted
+                        : GUEST_STATUSES[random.nextInt(GUEST_STATUSES.length)];
+                if (status == RoomParticipant.ParticipantStatus.Accepted) {
+                    accepted++;
+                }
+
+                RoomParticipant participant = RoomParticipant.builder()
+                        .participantId(nextParticipantId++)
+                        .matchingRoom(room)
+                        .user(member)
+                        .pet(pet)
+                        .status(status)
+                        .build();
+                participants.add(participant);
+                pets.add(pet);
+                petTypes.add(pet.getType());
+            }
+            room.setAcceptedUserCount(accepted);
+
+            rooms.add(room);
+            documents.add(new RoomSearchDocument(room.getRoomId(), room.getTitle(), room.getDescription(),
+                    room.getPlace(), petTypes));
+        }
+    }
+
+    /**
+     * 특정 방의 참가자 목록
+     */
+    List<RoomParticipant> participantsOf(MatchingRoom room) {
+        List<RoomParticipant> result = new ArrayList<>();
+        for (RoomParticipant participant : participants) {
+            if (participant.getMatchingRoom() == room) {
+                result.add(participant);
+            }
+        }
+        return result;
+    }
+
+    private static User user(long userId) {
+        return User.builder()
+                .userId(userId)
+                .email("user" + userId + "@test.com")
+                .password("1234")
+                .name("사용자" + userId)
+                .age(20L + userId % 40)
+                .gender(userId % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                .address("부산")
+                .phoneNumber("010-0000-" + userId)
+                .isVerified(false)
+                .build();
+    }
+
+    private static Pet pet(long petId, User owner, Random random) {
+        Pet pet = new Pet();
+        pet.setPetId(petId);
+        pet.setUser(owner);
+        pet.setName("반려동물" + petId);
+        pet.setType(BenchmarkFixtures.pick(random, new String[]{"포메", "푸들", "말티즈", "시바견", "코리안숏헤어"}));
+        pet.setAge(1L + random.nextInt(15));
+        pet.setGender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE);
+        pet.setWeight(2.0 + random.nextInt(300) / 10.0);
+        pet.setPersonality("활발함");
+        pet.setProfilePicture("/upload/pet" + petId + ".jpg");
+        return pet;
+    }
+}
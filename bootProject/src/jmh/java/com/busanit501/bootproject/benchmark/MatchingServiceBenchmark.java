@@ -0,0 +1,198 @@
+package com.busanit501.bootproject.benchmark;
+
+import com.busanit501.bootproject.config.RootConfig;
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.MatchingRoomDTO;
+import com.busanit501.bootproject.dto.PetDTO;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.RoomParticipantRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import com.busanit501.bootproject.service.KeywordTokenizer;
+import com.busanit501.bootproject.service.MatchingMetrics;
+import com.busanit501.bootproject.service.MatchingService;
+import com.busanit501.bootproject.service.RoomSearchDocumentLoader;
+import com.busanit501.bootproject.service.RoomSearchService;
+import com.busanit501.bootproject.service.TopKeywordService;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매칭 서비스의 목록/상세 화면 처리 경로 벤치마크
+ *
+ * 저장소(Repository)는 Mockito 로 대체하여 메모리 데이터(MatchingFixture)를 바로 반환하므로
+ * DB 시간은 빼고 서비스 계층의 변환/집계 비용만 측정합니다. (Mockito 호출 비용은 포함)
+ * 데이터 크기는 roomCount, participantsPerRoom 으로 조절합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MatchingServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchingServiceBenchmark {
+
+    @Param({"12", "100", "1000"})
+    public int roomCount;
+
+    @Param({"4", "20"})
+    public int participantsPerRoom;
+
+    private MatchingFixture fixture;
+    private MatchingService matchingService;
+    private TopKeywordService topKeywordService;
+    private ModelMapper modelMapper;
+
+    // 상세 화면 기준 데이터 (첫 번째 방)
+    private MatchingRoom detailRoom;
+    private List<RoomParticipant> detailParticipants;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new MatchingFixture(roomCount, participantsPerRoom, 42);
+        detailRoom = fixture.rooms.get(0);
+        detailParticipants = fixture.participantsOf(detailRoom);
+
+        RoomParticipantRepository participantRepository = mock(RoomParticipantRepository.class);
+        when(participantRepository.findAllWithPetAndUserByRoomIds(anyCollection()))
+                .thenReturn(fixture.participants);
+        when(participantRepository.findAllByMatchingRoomAndStatus(eq(detailRoom),
+                eq(RoomParticipant.ParticipantStatus.Accepted)))
+                .thenReturn(accepted(detailParticipants));
+
+        RoomSearchDocumentLoader documentLoader = mock(RoomSearchDocumentLoader.class);
+        when(documentLoader.loadAll()).thenReturn(fixture.documents);
+        topKeywordService = new TopKeywordService(documentLoader,
+                new KeywordTokenizer(KeywordTokenizer.DEFAULT_STOPWORDS));
+        topKeywordService.rebuild();
+
+        matchingService = new MatchingService(
+                mock(MatchingRoomRepository.class),
+                participantRepository,
+                mock(PetRepository.class),
+                mock(UserRepository.class),
+                mock(PlatformTransactionManager.class),
+                mock(RoomSearchService.class),
+                topKeywordService,
+                documentLoader,
+                mock(ApplicationEventPublisher.class),
+                mock(MatchingMetrics.class));
+
+        modelMapper = new RootConfig().getMapper();
+        // 첫 매핑 시 만들어지는 TypeMap 생성 비용은 제외
+        modelMapper.map(fixture.pets.get(0), PetDTO.class);
+    }
+
+    /**
+     * 목록 한 페이지 분량(roomCount 개)의 DTO 변환 (참가자 배치 조회 1회 + 방별 조립)
+     */
+    @Benchmark
+    public List<MatchingRoomDTO> convertRoomPage() {
+        return matchingService.convertToDtos(fixture.rooms);
+    }
+
+    /**
+     * 상세 화면의 단일 방 DTO 변환 (convertToDto 중 참가자 조회를 제외한 조립 부분)
+     */
+    @Benchmark
+    public MatchingRoomDTO convertToDto() {
+        return matchingService.assembleDto(detailRoom, detailParticipants);
+    }
+
+    /**
+     * 목록 화면의 인기 키워드 조회 (미리 계산된 상위 목록 반환)
+     */
+    @Benchmark
+    public List<String> getTopKeywords() {
+        return matchingService.getTopKeywords(5);
+    }
+
+    /**
+     * 인기 키워드 전체 재계산 (서버 시작/주기적 보정 시)
+     */
+    @Benchmark
+    public List<String> rebuildTopKeywords() {
+        topKeywordService.rebuild();
+        return topKeywordService.getTopKeywords(5);
+    }
+
+    /**
+     * 전체 참가자에서 대기 상태만 걸러내기
+     */
+    @Benchmark
+    public List<RoomParticipant> filterParticipants() {
+        return matchingService.filterParticipants(fixture.participants, RoomParticipant.ParticipantStatus.Pending);
+    }
+
+    /**
+     * 상세 화면의 승인된 사용자별 펫 목록
+     */
+    @Benchmark
+    public Map<User, List<Pet>> getAcceptedUserPets() {
+        return matchingService.getAcceptedUserPets(detailRoom);
+    }
+
+    /**
+     * RootConfig 의 ModelMapper(STRICT, private 필드 접근)로 펫 목록 변환
+     */
+    @Benchmark
+    public List<PetDTO> modelMapperPets() {
+        List<PetDTO> result = new ArrayList<>(fixture.pets.size());
+        for (Pet pet : fixture.pets) {
+            result.add(modelMapper.map(pet, PetDTO.class));
+        }
+        return result;
+    }
+
+    /**
+     * 같은 펫 목록을 assembleDto 처럼 직접 setter 로 변환 (ModelMapper 비교 기준)
+     */
+    @Benchmark
+    public List<PetDTO> manualMappingPets() {
+        List<PetDTO> result = new ArrayList<>(fixture.pets.size());
+        for (Pet pet : fixture.pets) {
+            PetDTO dto = new PetDTO();
+            dto.setPetId(pet.getPetId());
+            dto.setName(pet.getName());
+            dto.setType(pet.getType());
+            dto.setAge(pet.getAge());
+            dto.setGender(pet.getGender());
+            dto.setWeight(pet.getWeight());
+            dto.setPersonality(pet.getPersonality());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    private static List<RoomParticipant> accepted(List<RoomParticipant> participants) {
+        List<RoomParticipant> result = new ArrayList<>();
+        for (RoomParticipant participant : participants) {
+            if (participant.getStatus() == RoomParticipant.ParticipantStatus.Accepted) {
+                result.add(participant);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+package com.busanit501.bootproject.benchmark;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.repository.RoomParticipantBatchRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 참가자 저장 방식 비교 (내장 H2, MariaDB 호환 모드)
+ * - perRowIdentityInsert: 기존 participantRepository.save 반복과 같은 방식
+ *   (IDENTITY 라서 행마다 INSERT 후 생성된 키를 받아옴, 행 수만큼 왕복)
+ * - batchInsert: RoomParticipantBatchRepositoryImpl.insertAll (JDBC 배치, 50 행마다 한 번 전송)
+ *
+ * 내장 DB 는 네트워크 왕복 비용이 없으므로 실제 MariaDB 에서는 차이가 더 커집니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ParticipantInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParticipantInsertBenchmark {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_participants (matching_room_id, user_id, pet_id, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Param({"5", "50", "500"})
+    public int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RoomParticipantBatchRepositoryImpl batchRepository;
+    private List<RoomParticipant> participants;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:insert_bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE room_participants (" +
+                "participant_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "matching_room_id BIGINT NOT NULL, user_id BIGINT NOT NULL, pet_id BIGINT NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        batchRepository = new RoomParticipantBatchRepositoryImpl(jdbcTemplate);
+
+        MatchingRoom room = MatchingRoom.builder().roomId(1L).build();
+        participants = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            User user = User.builder().userId((long) i + 1).build();
+            Pet pet = new Pet();
+            pet.setPetId((long) i + 1);
+            participants.add(RoomParticipant.builder()
+                    .matchingRoom(room)
+                    .user(user)
+                    .pet(pet)
+                    .status(RoomParticipant.ParticipantStatus.Pending)
+                    .build());
+        }
+    }
+
+    /**
+     * 매 호출 전에 테이블을 비움 (반복 중에 테이블과 인덱스가 커지면 뒤쪽 호출일수록 INSERT 가 느려짐)
+     * 호출 단위 Setup 은 측정 시간에 포함되지 않으며, 호출 하나가 수십 마이크로초 이상이라 타이머 오차는 무시할 수준입니다.
+     */
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE room_participants");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long perRowIdentityInsert() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (RoomParticipant participant : participants) {
+                ps.setLong(1, participant.getMatchingRoom().getRoomId());
+                ps.setLong(2, participant.getUser().getUserId());
+                ps.setLong(3, participant.getPet().getPetId());
+                ps.setString(4, participant.getStatus().name());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public void batchInsert() {
+        batchRepository.insertAll(participants);
+    }
+}
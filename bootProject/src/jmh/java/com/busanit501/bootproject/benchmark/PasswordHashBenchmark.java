@@ -0,0 +1,57 @@
+package com.busanit501.bootproject.benchmark;
+
+import com.busanit501.bootproject.service.Argon2PasswordHasher;
+import com.busanit501.bootproject.service.BCryptPasswordHasher;
+import com.busanit501.bootproject.service.PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증(로그인 1회) 처리량을 비용 설정별로 측정 (스레드 1개 = 코어 1개당 초당 로그인 수)
+ * 결과의 ops/s 가 목표 처리량(예: 코어당 초당 20회) 이상인 설정 중 가장 비싼 것을 application.properties 의
+ * user.password.* 에 지정합니다. 서버 전체 처리량은 대략 ops/s x user.password-executor.pool-size 입니다.
+ *
+ * - bcrypt-N: BCrypt 강도 N (1 오를 때마다 약 2배 느려짐)
+ * - argon2id-M-T: Argon2id 메모리 M KB, 반복 T 회, 병렬 1
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PasswordHashBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Param({"bcrypt-10", "bcrypt-11", "bcrypt-12", "argon2id-19456-2", "argon2id-47104-1", "argon2id-65536-3"})
+    public String config;
+
+    private PasswordHasher hasher;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        String[] parts = config.split("-");
+        if (BCryptPasswordHasher.ALGORITHM.equals(parts[0])) {
+            hasher = new BCryptPasswordHasher(Integer.parseInt(parts[1]));
+        } else {
+            hasher = new Argon2PasswordHasher(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), 1);
+        }
+        encoded = hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.matches(PASSWORD, encoded);
+    }
+}
@@ -3,11 +3,13 @@ package com.busanit501.bootproject;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot 애플리케이션의 시작점
  */
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class BootProjectApplication {
 
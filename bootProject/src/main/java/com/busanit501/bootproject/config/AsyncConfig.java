@@ -0,0 +1,80 @@
+package com.busanit501.bootproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기(@Async) 작업용 스레드 풀 설정
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String CALENDAR_EXECUTOR = "calendarExecutor";
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+    public static final String PASSWORD_EXECUTOR = "passwordExecutor";
+
+    /**
+     * 일정 확정 후 캘린더 일정 생성용 스레드 풀
+     * 큐가 가득 차면 작업을 버리지 않고 이벤트를 발행한 스레드에서 직접 실행하여 속도를 늦춥니다.
+     * 종료 시에는 큐에 남은 작업을 마칠 때까지 최대 30초 기다립니다.
+     */
+    @Bean(name = CALENDAR_EXECUTOR)
+    public ThreadPoolTaskExecutor calendarExecutor(
+            @Value("${matching.calendar-executor.core-size:2}") int coreSize,
+            @Value("${matching.calendar-executor.max-size:4}") int maxSize,
+            @Value("${matching.calendar-executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("calendar-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 축소본 생성용 스레드 풀 (이미지 디코딩/리사이즈는 CPU 작업이므로 스레드 수를 작게 유지)
+     */
+    @Bean(name = IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${upload.image-executor.pool-size:2}") int poolSize,
+            @Value("${upload.image-executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시/검증용 스레드 풀 (PasswordService)
+     * 해시는 일부러 느린 CPU 작업이므로 동시에 실행되는 수를 코어 수로 제한합니다.
+     * 큐가 가득 차면 요청 스레드에서 대신 실행하지 않고 거절하여(AbortPolicy) 로그인 폭주가
+     * 다른 요청까지 느리게 만들지 않도록 합니다. (pool-size 가 0 이면 CPU 코어 수)
+     */
+    @Bean(name = PASSWORD_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordExecutor(
+            @Value("${user.password-executor.pool-size:0}") int poolSize,
+            @Value("${user.password-executor.queue-capacity:200}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
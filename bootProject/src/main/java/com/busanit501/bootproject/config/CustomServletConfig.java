@@ -1,23 +1,58 @@
 package com.busanit501.bootproject.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
 
 @Configuration
-@EnableWebMvc
 // 기본 정적 static 경로가 따로 설정, 경로 알려주기,
+// @EnableWebMvc 는 부트의 MVC 자동 설정(메시지 컨버터, 리소스 설정 등)을 끄므로 사용하지 않음
 public class CustomServletConfig implements WebMvcConfigurer {
+
+    // 정적 리소스 URL 에는 파일 내용 해시가 붙으므로(base-3f2a...css) 내용이 바뀌면 URL 도 바뀜
+    // → 1년 동안 다시 요청하지 않도록 immutable 로 캐시
+    private static final CacheControl STATIC_CACHE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 웹브라우저에서, http://localhost:8080/js/test.js 연결 시도.
         // 프로젝트 폴더의 /static/js/ 연결 시켜주는 기능.
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/");
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/");
-        registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/");
+        addVersionedResources(registry, "/js/**", "classpath:/static/js/");
+        addVersionedResources(registry, "/css/**", "classpath:/static/css/");
+        addVersionedResources(registry, "/**", "classpath:/static/");
+    }
+
+    /**
+     * 내용 해시 버전 URL, 미리 압축한 파일(.br, .gz) 제공, 장기 캐시를 적용한 정적 리소스 등록
+     * 템플릿의 @{/css/base.css} 는 ResourceUrlEncodingFilter 가 /css/base-해시.css 로 바꿔 출력하고,
+     * CSS 안의 url(...) 도 CssLinkResourceTransformer 가 버전 URL 로 바꿉니다.
+     * 브라우저가 Accept-Encoding 으로 br/gzip 을 지원하고 빌드 시 만든 .br/.gz 파일이 있으면 그 파일을 내려줍니다.
+     */
+    private void addVersionedResources(ResourceHandlerRegistry registry, String pattern, String location) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(STATIC_CACHE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new CssLinkResourceTransformer());
+    }
+
+    /**
+     * 템플릿에서 출력하는 정적 리소스 링크(@{...})를 버전 URL 로 변환
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
     }
 }
@@ -0,0 +1,107 @@
+package com.busanit501.bootproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 주 DB(쓰기) / 복제 DB(읽기) 커넥션 풀과 읽기/쓰기 라우팅 설정
+ * - writeDataSource: spring.datasource.* (풀 크기는 spring.datasource.hikari.*), Flyway 마이그레이션 대상
+ * - readDataSource: datasource.replica.* 가 설정된 경우에만 생성 (HikariCP 설정 이름 그대로 사용)
+ * - dataSource(@Primary): JPA, JdbcTemplate, 세션 저장소가 사용하는 라우팅 DataSource
+ *   @Transactional(readOnly = true) 작업은 복제 DB, 그 외는 주 DB 로 보냄 (복제 DB 가 없으면 항상 주 DB)
+ * - jpaVendorAdapter: 복제 DB 가 있으면 복제 DB 에서 읽은 엔티티를 2차 캐시에 넣지 않음 (ReplicaReadJpaDialect)
+ */
+@Configuration
+public class DataSourceConfig implements WebMvcConfigurer {
+
+    public static final String WRITE_DATA_SOURCE = "writeDataSource";
+    public static final String READ_DATA_SOURCE = "readDataSource";
+
+    private final ObjectProvider<DataSource> readDataSource;
+    private final long readAfterWriteSeconds;
+
+    public DataSourceConfig(@Qualifier(READ_DATA_SOURCE) ObjectProvider<DataSource> readDataSource,
+                            @Value("${datasource.routing.read-after-write-seconds:5}") long readAfterWriteSeconds) {
+        this.readDataSource = readDataSource;
+        this.readAfterWriteSeconds = readAfterWriteSeconds;
+    }
+
+    @Bean(WRITE_DATA_SOURCE)
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 복제 DB 커넥션 풀 (커넥션은 읽기 전용으로 열림)
+     */
+    @Bean(READ_DATA_SOURCE)
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "jdbc-url")
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource readDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 스프링 부트 기본 설정(spring.jpa.*)과 같은 HibernateJpaVendorAdapter 에 ReplicaReadJpaDialect 만 바꿔 끼움
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "jdbc-url")
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties) {
+        HibernateJpaDialect jpaDialect = new ReplicaReadJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier(WRITE_DATA_SOURCE) DataSource writeDataSource) {
+        DataSource read = readDataSource.getIfAvailable();
+        if (read == null) {
+            return new LazyConnectionDataSourceProxy(writeDataSource);
+        }
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(writeDataSource, read));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (readDataSource.getIfAvailable() != null) {
+            registry.addInterceptor(new ReadAfterWriteInterceptor(readAfterWriteSeconds));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.busanit501.bootproject.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 복제 지연 때문에 방금 쓴 데이터가 안 보이는 문제를 막기 위해 요청을 주 DB 에 고정
+ * - 변경 요청(GET/HEAD 가 아닌 요청)은 요청 전체를 주 DB 에서 처리하고, 세션에 마지막 변경 시각을 기록
+ * - 같은 세션의 조회 요청은 마지막 변경 후 read-after-write-seconds 동안 주 DB 에서 처리
+ *   (예: 매칭방 생성 후 상세 화면으로 redirect)
+ * 그 외의 조회 요청만 읽기 전용 트랜잭션을 복제 DB 로 보냅니다.
+ */
+public class ReadAfterWriteInterceptor implements HandlerInterceptor {
+
+    private static final String LAST_WRITE_ATTRIBUTE = ReadAfterWriteInterceptor.class.getName() + ".lastWrite";
+
+    private final long windowMillis;
+
+    public ReadAfterWriteInterceptor(long windowSeconds) {
+        this.windowMillis = windowSeconds * 1000;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request) || recentlyWrote(request.getSession(false))) {
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadWriteRoutingDataSource.unpin();
+        if (isWrite(request)) {
+            // 로그인처럼 요청 중에 세션이 만들어진 경우도 포함
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    }
+
+    private boolean recentlyWrote(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Object lastWrite = session.getAttribute(LAST_WRITE_ATTRIBUTE);
+        return lastWrite instanceof Long time && System.currentTimeMillis() - time < windowMillis;
+    }
+}
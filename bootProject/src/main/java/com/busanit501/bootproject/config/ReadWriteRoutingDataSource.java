@@ -0,0 +1,58 @@
+package com.busanit501.bootproject.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제 DB 로, 그 외에는 주 DB 로 보내는 DataSource
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 시점에 연결할 DB 를 고르도록 사용합니다. (DataSourceConfig)
+ *
+ * 방금 쓴 데이터를 바로 읽어야 하는 요청은 pinToPrimary 로 주 DB 에 고정합니다. (ReadAfterWriteInterceptor)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WRITE = "write";
+    private static final String READ = "read";
+
+    // 현재 스레드의 요청을 주 DB 로 고정했는지 여부
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource writeDataSource, DataSource readDataSource) {
+        setTargetDataSources(Map.of(WRITE, writeDataSource, READ, readDataSource));
+        setDefaultTargetDataSource(writeDataSource);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 트랜잭션도 주 DB 를 사용하도록 고정
+     */
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    /**
+     * 주 DB 고정 해제
+     */
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * 현재 스레드의 요청을 주 DB 로 고정했는지 여부
+     */
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPinnedToPrimary()) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,34 @@
+package com.busanit501.bootproject.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * 복제 DB 로 라우팅되는 읽기 전용 트랜잭션에서는 2차 캐시를 읽기만 하고 채우지 않도록 하는 JpaDialect
+ * (복제 DB 가 설정된 경우에만 DataSourceConfig 에서 등록)
+ *
+ * 참가자 카운터 UPDATE 후 캐시에서 제거된 엔티티를 복제 지연 중인 복제 DB 에서 다시 읽으면
+ * 예전 값이 2차 캐시에 들어가 다음 무효화 전까지 모든 요청에 보이게 됩니다.
+ * CacheMode.GET 은 캐시에 있는 값은 그대로 사용하고 DB 에서 읽은 값만 넣지 않으므로,
+ * 캐시는 주 DB 에서 읽은 (쓰기 트랜잭션, pinToPrimary 요청) 값으로만 채워집니다.
+ *
+ * 트랜잭션마다 새 EntityManager 를 열고 끝나면 닫으므로 (open-in-view 꺼짐) CacheMode 를 되돌리지 않습니다.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly() && !ReadWriteRoutingDataSource.isPinnedToPrimary()) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
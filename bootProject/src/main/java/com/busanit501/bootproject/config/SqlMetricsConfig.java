@@ -0,0 +1,63 @@
+package com.busanit501.bootproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 지표 설정 (show-sql 로그 대신 사용)
+ * DataSource 를 datasource-proxy 로 감싸 모든 SQL 실행을 SqlMetricsListener 로 집계하고,
+ * SqlMetricsInterceptor 로 요청(엔드포인트)별 SQL 실행 수/시간을 기록합니다.
+ * 지표는 /actuator/metrics/sql.request.statements?tag=uri:/matching/list 처럼 조회합니다.
+ */
+@Configuration
+public class SqlMetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final int statementWarnThreshold;
+
+    public SqlMetricsConfig(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                            @Value("${sql.metrics.request-statement-warn-threshold:30}") int statementWarnThreshold) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    /**
+     * 생성된 커넥션 풀(DataSource) 빈을 SQL 집계 프록시로 감쌈
+     * 풀을 감싸는 라우팅/지연 DataSource(DataSourceConfig.dataSource)는 같은 SQL 을 두 번 세지 않도록 제외합니다.
+     * (BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static)
+     */
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${sql.metrics.slow-query-threshold-ms:200}") long slowQueryThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource) && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlMetricsListener(meterRegistryProvider, slowQueryThresholdMillis))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlMetricsInterceptor(meterRegistryProvider.getObject(), statementWarnThreshold));
+    }
+}
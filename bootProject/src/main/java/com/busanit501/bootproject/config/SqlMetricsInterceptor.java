@@ -0,0 +1,77 @@
+package com.busanit501.bootproject.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+/**
+ * 컨트롤러 요청마다 실행된 SQL 수와 시간을 엔드포인트(URL 패턴)별로 기록
+ * - sql.request.statements: 요청당 SQL 실행 수 (N+1 이 생기면 max/평균이 바로 올라감)
+ * - sql.request.time: 요청당 SQL 실행 시간 합계
+ * 화면 렌더링 중에 실행된 SQL 까지 포함하도록 afterCompletion 에서 기록하고,
+ * 요청당 SQL 수가 statement-warn-threshold 를 넘으면 경고 로그를 남깁니다.
+ */
+@Log4j2
+public class SqlMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String STATS_ATTRIBUTE = SqlMetricsInterceptor.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 정적 리소스 요청은 제외
+        if (handler instanceof HandlerMethod) {
+            SqlMetricsListener.RequestSqlStats stats = SqlMetricsListener.begin();
+            if (stats != null) {
+                request.setAttribute(STATS_ATTRIBUTE, stats);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object attribute = request.getAttribute(STATS_ATTRIBUTE);
+        if (!(attribute instanceof SqlMetricsListener.RequestSqlStats stats)) {
+            return;
+        }
+        request.removeAttribute(STATS_ATTRIBUTE);
+        SqlMetricsListener.end();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("sql.request.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getElapsedMillis()));
+
+        if (stats.getStatementCount() > statementWarnThreshold) {
+            log.warn("{} {} executed {} SQL statements ({} ms)",
+                    request.getMethod(), uri, stats.getStatementCount(), stats.getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.busanit501.bootproject.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy 로 감싼 DataSource 의 모든 SQL 실행을 집계하는 리스너 (SqlMetricsConfig 에서 등록)
+ * - sql.statements: SQL 종류(select/insert/update/delete/other), 커넥션 풀(datasource)별 실행 시간
+ * - sql.slow.queries: slow-query-threshold-ms 이상 걸린 SQL 수 (SQL 문장은 경고 로그로 남김, 파라미터 값은 남기지 않음)
+ * - 요청 처리 중이면(begin ~ end) 그 요청의 SQL 실행 수와 시간을 모아 SqlMetricsInterceptor 가 엔드포인트별로 기록
+ *
+ * 배치 실행(addBatch/executeBatch)은 DB 왕복 한 번이므로 1건으로 셉니다.
+ * 모든 SQL 실행마다 호출되므로 Timer/Counter 는 태그 조합별로 한 번만 만들어 재사용하고,
+ * SQL 문장 문자열은 느린 SQL 로그를 남길 때만 만듭니다.
+ */
+@Log4j2
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    // 현재 스레드에서 처리 중인 요청의 SQL 집계 (요청 밖의 스케줄 작업 등은 null)
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long slowQueryThresholdMillis;
+
+    // DataSource 는 MeterRegistry 보다 먼저 만들어지므로 첫 SQL 실행 시점에 가져옴
+    private volatile MeterRegistry meterRegistry;
+
+    // 태그 조합별 지표 (sql.statements: type/datasource/success, sql.slow.queries: type)
+    private final Map<StatementKey, Timer> statementTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> slowQueryCounters = new ConcurrentHashMap<>();
+
+    public SqlMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider, long slowQueryThresholdMillis) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    /**
+     * 현재 스레드의 요청별 SQL 집계 시작 (이미 집계 중이면 null, 예: 오류 페이지로 forward)
+     */
+    public static RequestSqlStats begin() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 요청별 SQL 집계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        String type = queryInfoList.isEmpty()
+                ? "other"
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name().toLowerCase(Locale.ROOT);
+
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.add(elapsedMillis);
+        }
+
+        MeterRegistry registry = registry();
+        if (registry != null) {
+            StatementKey key = new StatementKey(type, execInfo.getDataSourceName(), execInfo.isSuccess());
+            statementTimers.computeIfAbsent(key, k -> Timer.builder("sql.statements")
+                            .description("SQL 실행 시간 (SQL 종류별)")
+                            .tag("type", k.type())
+                            .tag("datasource", String.valueOf(k.dataSource()))
+                            .tag("success", String.valueOf(k.success()))
+                            .register(registry))
+                    .record(Duration.ofMillis(elapsedMillis));
+        }
+
+        if (elapsedMillis >= slowQueryThresholdMillis) {
+            if (registry != null) {
+                slowQueryCounters.computeIfAbsent(type, t -> Counter.builder("sql.slow.queries")
+                                .description("느린 SQL 실행 수")
+                                .tag("type", t)
+                                .register(registry))
+                        .increment();
+            }
+            log.warn("Slow query ({} ms{}): {}", elapsedMillis,
+                    execInfo.isBatch() ? ", batch " + execInfo.getBatchSize() : "",
+                    queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")));
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private record StatementKey(String type, String dataSource, boolean success) {
+    }
+
+    /**
+     * 한 요청에서 실행된 SQL 수와 시간 합계
+     */
+    public static final class RequestSqlStats {
+
+        private int statementCount;
+        private long elapsedMillis;
+
+        void add(long millis) {
+            statementCount++;
+            elapsedMillis += millis;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
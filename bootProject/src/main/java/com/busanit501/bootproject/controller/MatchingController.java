@@ -1,13 +1,12 @@
 package com.busanit501.bootproject.controller;
 
-import com.busanit501.bootproject.domain.MatchingRoom;
 import com.busanit501.bootproject.domain.Pet;
-import com.busanit501.bootproject.domain.RoomParticipant;
-import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
 import com.busanit501.bootproject.dto.MatchingRoomDTO;
+import com.busanit501.bootproject.dto.MatchingRoomPageDTO;
+import com.busanit501.bootproject.dto.RoomDetailView;
 import com.busanit501.bootproject.exception.ResourceNotFoundException;
-import com.busanit501.bootproject.repository.UserRepository;
-import com.busanit501.bootproject.service.CalendarService;
+import com.busanit501.bootproject.service.ImageStorageService;
 import com.busanit501.bootproject.service.MatchingService;
 import com.busanit501.bootproject.service.PetService;
 import com.busanit501.bootproject.service.UserService;
@@ -15,6 +14,8 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -22,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -35,34 +35,37 @@ public class MatchingController {
 
     private final MatchingService matchingService;
     private final PetService petService;
-    private final UserRepository userRepository;
     private final UserService userService;
-    private final CalendarService calendarService;
+    private final ImageStorageService imageStorageService;
 
     @Autowired
     public MatchingController(MatchingService matchingService,
                               PetService petService,
-                              UserRepository userRepository,
                               UserService userService,
-                              CalendarService calendarService) {
+                              ImageStorageService imageStorageService) {
         this.matchingService = matchingService;
         this.petService = petService;
-        this.userRepository = userRepository;
         this.userService = userService;
-        this.calendarService = calendarService;
+        this.imageStorageService = imageStorageService;
     }
 
+    // 목록 한 페이지당 기본/최대 매칭방 수
+    private static final int DEFAULT_PAGE_SIZE = 12;
+    private static final int MAX_PAGE_SIZE = 50;
+
     @GetMapping("/list")
     public String list(Model model,
                        @RequestParam(value = "query", required = false) String query,
+                       @RequestParam(value = "cursor", required = false) Long cursor,
+                       @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
                        HttpSession session) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             return "redirect:/user/login";
         }
 
-        // 모든 매칭방 리스트 가져오기
-        List<MatchingRoomDTO> allRooms = matchingService.getAllRooms();
+        // 매칭방 첫 페이지(또는 cursor 이후 페이지) 가져오기
+        MatchingRoomPageDTO page = matchingService.getRoomsPage(cursor, clampPageSize(size));
 
         // 검색어가 있을 경우 필터링된 매칭방 리스트 가져오기
         List<MatchingRoomDTO> filteredRooms = Collections.emptyList();
@@ -74,7 +77,10 @@ public class MatchingController {
         List<String> topKeywords = matchingService.getTopKeywords(5);
 
         // 모델에 데이터 추가
-        model.addAttribute("allRooms", allRooms); // 모든 방
+        model.addAttribute("allRooms", page.getRooms()); // 현재 페이지의 방
+        model.addAttribute("nextCursor", page.getNextCursor()); // 무한 스크롤용 다음 커서
+        model.addAttribute("hasNext", page.isHasNext());
+        model.addAttribute("pageSize", clampPageSize(size));
         model.addAttribute("filteredRooms", filteredRooms); // 검색된 방
         model.addAttribute("keywords", topKeywords); // 인기 키워드
         model.addAttribute("query", query); // 검색어 유지
@@ -82,13 +88,29 @@ public class MatchingController {
         return "matching/list";
     }
 
+    /**
+     * 무한 스크롤용 매칭방 페이지 조회 (JSON)
+     * list.js 에서 화면 하단에 도달하면 nextCursor 로 다음 페이지를 요청합니다.
+     */
+    @GetMapping("/list/more")
+    @ResponseBody
+    public ResponseEntity<MatchingRoomPageDTO> listMore(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                        @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+                                                        HttpSession session) {
+        LoginUserPrincipal loginUser = getLoginUser(session);
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(matchingService.getRoomsPage(cursor, clampPageSize(size)));
+    }
 
-
-
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
     @GetMapping("/create")
     public String createForm(HttpSession session, Model model) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             return "redirect:/user/login";
         }
@@ -111,7 +133,7 @@ public class MatchingController {
                                HttpSession session,
                                Model model,
                                RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("errorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
@@ -125,23 +147,10 @@ public class MatchingController {
 
         try {
             if (imageFile != null && !imageFile.isEmpty()) {
-                String originalFilename = imageFile.getOriginalFilename();
-                // 고유한 파일명을 생성하여 저장
-                String uniqueFileName = UUID.randomUUID().toString() + "_" + originalFilename;
-                String uploadDir = "C:/upload/"; // 실제 서버 환경에 맞게 수정
-                File uploadDirectory = new File(uploadDir);
-                if (!uploadDirectory.exists()) {
-                    uploadDirectory.mkdirs(); // 디렉토리 생성
-                }
-
-                File destinationFile = new File(uploadDirectory, uniqueFileName);
-                imageFile.transferTo(destinationFile);
-
-                String savedProfilePicture = "/upload/" + uniqueFileName;
-                dto.setProfilePicture(savedProfilePicture);
+                dto.setProfilePicture(imageStorageService.store(imageFile));
             }
 
-            matchingService.createRoom(dto, loginUser);
+            matchingService.createRoom(dto, loginUser.getUserId());
             redirectAttributes.addFlashAttribute("successMessage", "매칭방이 성공적으로 생성되었습니다.");
             return "redirect:/matching/list";
 
@@ -158,52 +167,30 @@ public class MatchingController {
                                         Model model,
                                         HttpSession session,
                                         RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("errorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
         }
 
         try {
-            MatchingRoom room = matchingService.getRoomById(roomId);
-//            populateModelForDetail(model, room, loginUser);
-            List<RoomParticipant> participants = matchingService.getParticipantsByRoomId(roomId);
-
-            // 대기(Pending)/승인(Accepted) 구분
-            List<RoomParticipant> pending = matchingService.filterParticipants(
-                    participants, RoomParticipant.ParticipantStatus.Pending);
-            List<RoomParticipant> accepted = matchingService.filterParticipants(
-                    participants, RoomParticipant.ParticipantStatus.Accepted);
-
-            // 호스트 여부
-            boolean isHost = room.getUser().getUserId().equals(loginUser.getUserId());
-
-            // pendingMap
-            Map<User, List<Pet>> pendingMap = matchingService.getPendingUserPets(room);
-            model.addAttribute("pendingMap", pendingMap);
-            // acceptedMap 만들기
-            // (Map<User, List<Pet>>) user->pets
-            Map<User, List<Pet>> acceptedMap = matchingService.getAcceptedUserPets(room);
-            if (acceptedMap == null) {
-                acceptedMap = new HashMap<>(); // ★ null 방지
-            }
+            // 매칭방, 참가자, 참가자의 사용자/펫을 한 번에 조회 (대기/승인 구분은 메모리에서)
+            RoomDetailView detail = matchingService.getRoomDetail(roomId, loginUser.getUserId());
 
             // 모델에 담기
-            model.addAttribute("room", matchingService.convertToDto(room)); // 변경된 부분
-            model.addAttribute("pendingParticipants", pending);
-            model.addAttribute("acceptedParticipants", accepted);
-            model.addAttribute("acceptedMap", acceptedMap);
-            model.addAttribute("isHost", isHost);
-            log.info("Accepted map size: {}", acceptedMap.size());
+            model.addAttribute("room", detail.getRoom());
+            model.addAttribute("pendingMap", detail.getPendingMap());
+            model.addAttribute("acceptedMap", detail.getAcceptedMap());
+            model.addAttribute("pendingParticipants", detail.getPendingParticipants());
+            model.addAttribute("acceptedParticipants", detail.getAcceptedParticipants());
+            model.addAttribute("isHost", detail.isHost());
+            log.info("Accepted map size: {}", detail.getAcceptedMap().size());
 
             // 호스트가 아닌 경우만 userPets 준비 (유저가 신청 모달에서 선택)
-            if (!isHost) {
-                List<Pet> userPets = petService.findAllByUserId(loginUser.getUserId());
-                model.addAttribute("userPets", userPets);
-
-                // 사용자가 이미 신청했는지 여부 확인
-                boolean hasApplied = matchingService.hasUserApplied(room, loginUser);
-                model.addAttribute("hasApplied", hasApplied);
+            if (!detail.isHost()) {
+                model.addAttribute("userPets", detail.getUserPets());
+                // 사용자가 이미 신청했는지 여부
+                model.addAttribute("hasApplied", detail.isApplied());
             }
 
             return "matching/detail";
@@ -218,22 +205,20 @@ public class MatchingController {
                            Model model,
                            HttpSession session,
                            RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("errorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
         }
 
         try {
-            MatchingRoom room = matchingService.getRoomById(roomId);
-            if (!room.getUser().getUserId().equals(loginUser.getUserId())) {
+            // 호스트, 참가자 펫까지 서비스 트랜잭션 안에서 DTO 로 변환 (화면에서 지연 로딩 없음)
+            MatchingRoomDTO dto = matchingService.getRoomDto(roomId);
+            if (!dto.getUser().getUserId().equals(loginUser.getUserId())) {
                 redirectAttributes.addFlashAttribute("errorMessage", "방장만 수정할 수 있습니다.");
                 return "redirect:/matching/detail/" + roomId;
             }
 
-            MatchingRoomDTO dto = matchingService.convertToDto(room);
-            dto.setRoomId(roomId);
-
             List<Pet> userPets = petService.findAllByUserId(loginUser.getUserId());
             model.addAttribute("matchingRoomDTO", dto);
             model.addAttribute("userPets", userPets);
@@ -252,7 +237,7 @@ public class MatchingController {
                              HttpSession session,
                              Model model,
                              RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("errorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
@@ -265,30 +250,13 @@ public class MatchingController {
         }
 
         try {
-            // 이미지 파일 업로드 처리
+            // 이미지 파일 업로드 처리 (축소본은 비동기로 생성)
             if (imageFile != null && !imageFile.isEmpty()) {
-                String originalFilename = imageFile.getOriginalFilename();
-                String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-
-                // 업로드 디렉토리 경로 설정
-                String uploadDir = "C:/upload/";
-                File uploadDirectory = new File(uploadDir);
-                if (!uploadDirectory.exists()) {
-                    uploadDirectory.mkdirs(); // 디렉토리 생성
-                }
-
-                // 파일 저장
-                File destinationFile = new File(uploadDirectory, uniqueFileName);
-                imageFile.transferTo(destinationFile);
-
-                // 저장된 파일의 URL 설정
-                String savedProfilePicture = "/upload/" + uniqueFileName;
-                dto.setProfilePicture(savedProfilePicture);
+                dto.setProfilePicture(imageStorageService.store(imageFile));
             }
 
             // 매칭방 정보 업데이트
-            matchingService.updateRoom(roomId, dto, loginUser);
+            matchingService.updateRoom(roomId, dto, loginUser.getUserId());
 
             redirectAttributes.addFlashAttribute("successMessage", "매칭방이 성공적으로 수정되었습니다.");
             return "redirect:/matching/detail/" + roomId;
@@ -304,15 +272,14 @@ public class MatchingController {
 
     @PostMapping("/delete/{id}")
     public String deleteRoom(@PathVariable Long id, HttpSession session, RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("deleteErrorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
         }
 
         try {
-            MatchingRoom room = matchingService.getRoomById(id);
-            if (!room.getUser().getUserId().equals(loginUser.getUserId())) {
+            if (!matchingService.isHost(id, loginUser.getUserId())) {
                 redirectAttributes.addFlashAttribute("deleteErrorMessage", "방장만 삭제할 수 있습니다.");
                 return "redirect:/matching/list";
             }
@@ -330,16 +297,14 @@ public class MatchingController {
     public String confirmSchedule(@PathVariable Long id, HttpSession session, RedirectAttributes redirectAttributes) {
         log.info("Confirm request received for roomId: {}", id);
         try {
-            User loginUser = getManagedLoginUser(session);
+            LoginUserPrincipal loginUser = getLoginUser(session);
             if (loginUser == null) {
                 log.warn("No logged-in user found.");
                 return "redirect:/user/login";
             }
 
-            MatchingRoom room = matchingService.getRoomById(id);
-            List<User> participants = matchingService.getAcceptedParticipantsByRoomId(id);
-
-            calendarService.saveSchedule(loginUser, room, participants);
+            // 캘린더 일정은 확정 커밋 후 비동기로 생성됨
+            matchingService.confirmSchedule(id, loginUser.getUserId());
             redirectAttributes.addFlashAttribute("successMessage", "스케줄이 확정되었습니다.");
 
             return "redirect:/matching/list";
@@ -356,7 +321,7 @@ public class MatchingController {
                             @RequestParam(value = "additionalPetIds", required = false) List<Long> additionalPetIds,
                             HttpSession session,
                             RedirectAttributes redirectAttributes) {
-        User loginUser = getManagedLoginUser(session);
+        LoginUserPrincipal loginUser = getLoginUser(session);
         if (loginUser == null) {
             redirectAttributes.addFlashAttribute("errorMessage", "로그인이 필요합니다.");
             return "redirect:/user/login";
@@ -402,9 +367,10 @@ public class MatchingController {
         return "redirect:/matching/detail/" + roomId;
     }
 
-    private User getManagedLoginUser(HttpSession session) {
-        User loginUser = (User) session.getAttribute("loginUser");
-        if (loginUser == null) return null;
-        return userRepository.findById(loginUser.getUserId()).orElse(null);
+    /**
+     * 세션의 로그인 사용자 정보 (DB 를 조회하지 않음, 서비스에는 사용자 ID 만 전달)
+     */
+    private LoginUserPrincipal getLoginUser(HttpSession session) {
+        return (LoginUserPrincipal) session.getAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE);
     }
 }
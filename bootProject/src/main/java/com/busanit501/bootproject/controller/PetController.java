@@ -2,8 +2,10 @@ package com.busanit501.bootproject.controller;
 
 import com.busanit501.bootproject.domain.Pet;
 import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
 import com.busanit501.bootproject.dto.PetDTO;
 import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.UserRepository;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +20,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class PetController {
 
     private final PetRepository petRepository;
+    private final UserRepository userRepository;
 
     @Autowired
-    public PetController(PetRepository petRepository) {
+    public PetController(PetRepository petRepository, UserRepository userRepository) {
         this.petRepository = petRepository;
+        this.userRepository = userRepository;
     }
 
     /**
@@ -31,7 +35,7 @@ public class PetController {
     public ResponseEntity<?> registerPet(@Valid @RequestBody PetDTO petDTO, HttpSession session) {
         try {
             // 사용자 인증 체크
-            User loginUser = getLoginUser(session);
+            LoginUserPrincipal loginUser = getLoginUser(session);
             if (loginUser == null) {
                 throw new RuntimeException("로그인이 필요합니다.");
             }
@@ -53,22 +57,24 @@ public class PetController {
      * 세션에서 로그인된 사용자 가져오기
      *
      * @param session HttpSession 객체
-     * @return 로그인된 사용자 (또는 null)
+     * @return 로그인된 사용자 정보 (또는 null)
      */
-    private User getLoginUser(HttpSession session) {
-        return (User) session.getAttribute("loginUser");
+    private LoginUserPrincipal getLoginUser(HttpSession session) {
+        return (LoginUserPrincipal) session.getAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE);
     }
 
     /**
      * 반려동물 엔티티 저장
      *
      * @param petDTO    반려동물 정보 DTO
-     * @param loginUser 로그인된 사용자
+     * @param loginUser 로그인된 사용자 정보
      * @return 저장된 반려동물 엔티티
      */
-    private Pet savePet(PetDTO petDTO, User loginUser) {
+    private Pet savePet(PetDTO petDTO, LoginUserPrincipal loginUser) {
+        // 소유자는 외래 키로만 사용하므로 조회 없이 참조만 설정
+        User owner = userRepository.getReferenceById(loginUser.getUserId());
         Pet pet = new Pet();
-        pet.setUser(loginUser);
+        pet.setUser(owner);
         pet.setName(petDTO.getName());
         pet.setType(petDTO.getType());
         pet.setAge(petDTO.getAge());
@@ -0,0 +1,236 @@
+package com.busanit501.bootproject.controller;
+
+import com.busanit501.bootproject.enums.ImageVariant;
+import com.busanit501.bootproject.service.ImageStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 업로드 이미지(/upload/**) 전송
+ * - Tomcat sendfile 을 지원하면 파일 전송을 커넥터에 넘기고 요청 스레드는 바로 반환됩니다.
+ *   (커널이 파일을 소켓으로 직접 복사하므로 힙 버퍼도 사용하지 않음)
+ * - 그 외에는 FileChannel.transferTo 로 응답 스트림에 복사합니다.
+ * - ETag / Last-Modified 조건부 요청(304)과 단일 구간 Range 요청(206)을 지원합니다.
+ * - 축소본이 아직 없으면 원본을 대신 내려줍니다.
+ */
+@Controller
+public class UploadController {
+
+    // 축소본이 나중에 생기면 같은 URL 의 내용이 바뀌므로(원본 → 축소본) 짧게 캐시한 뒤 ETag 로 재검증
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic().getHeaderValue();
+
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 크므로 직접 복사 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    // parseRange 결과: 파일 범위를 벗어난 Range (416)
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+    private final MeterRegistry meterRegistry;
+    private final Counter bytesServed;
+
+    @Autowired
+    public UploadController(ImageStorageService imageStorageService, MeterRegistry meterRegistry) {
+        this.imageStorageService = imageStorageService;
+        this.meterRegistry = meterRegistry;
+        this.bytesServed = Counter.builder("upload.served.bytes")
+                .description("업로드 이미지 전송 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @RequestMapping(value = ImageStorageService.URL_PREFIX + "**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = doServe(request, response);
+        sample.stop(Timer.builder("upload.serve")
+                .description("업로드 이미지 요청 처리 시간 (sendfile 은 커넥터에 넘기기까지)")
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private String doServe(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String url = UriUtils.decode(request.getRequestURI().substring(request.getContextPath().length()),
+                StandardCharsets.UTF_8);
+        Path file = findFile(url);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return "not_found";
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = etagOf(file.getFileName().toString(), lastModified, length);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // If-None-Match / If-Modified-Since 가 맞으면 304 와 ETag, Last-Modified 헤더를 설정
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return "not_modified";
+        }
+
+        String contentType = request.getServletContext().getMimeType(file.getFileName().toString());
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length - 1;
+        String result = "full";
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return "unsatisfiable";
+            }
+            if (parsed != null) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                result = "partial";
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return result;
+        }
+
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 서블릿이 반환된 뒤 Tomcat 이 sendfile 로 전송 (경로는 실제 경로여야 함)
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                while (position <= end) {
+                    position += channel.transferTo(position, end + 1 - position, out);
+                }
+            }
+        }
+        bytesServed.increment(count);
+        return result;
+    }
+
+    /**
+     * URL 에 해당하는 파일 (축소본이 없으면 원본, 둘 다 없거나 업로드 폴더 밖이면 null)
+     */
+    private Path findFile(String url) {
+        Path file = imageStorageService.resolve(url);
+        if (file != null && Files.isRegularFile(file)) {
+            return file;
+        }
+        String original = ImageVariant.originalOf(url);
+        Path originalFile = original != null ? imageStorageService.resolve(original) : null;
+        return originalFile != null && Files.isRegularFile(originalFile) ? originalFile : null;
+    }
+
+    /**
+     * 강한(strong) ETag
+     * 내용 해시로 이름 지은 파일은 실제로 내려주는 파일의 이름을 그대로 사용하고(파일을 읽지 않음),
+     * 이전 방식(UUID 파일명)으로 저장된 파일은 수정 시각과 크기로 만듭니다.
+     */
+    static String etagOf(String fileName, long lastModified, long length) {
+        if (ImageStorageService.isContentAddressed(fileName)) {
+            return "\"" + fileName + "\"";
+        }
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+    }
+
+    /**
+     * If-Range 가 없거나 현재 파일과 같으면 Range 를 적용 (다르면 전체를 다시 전송)
+     * 날짜는 Last-Modified(초 단위)와 정확히 같을 때만 같은 파일로 봅니다. (RFC 9110 13.1.5)
+     * 더 늦은 날짜라도 다른 내용의 사본일 수 있으므로 이어 붙일 구간을 보내지 않습니다.
+     */
+    static boolean isRangeApplicable(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return lastModified / 1000 == ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toEpochSecond();
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 단일 구간 Range 헤더 해석 (bytes=시작-끝, bytes=시작-, bytes=-마지막N)
+     *
+     * @return [시작, 끝] (끝 포함), 적용할 수 없는 형식이면 null(전체 전송), 범위를 벗어나면 UNSATISFIABLE
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            // 여러 구간 요청은 전체 전송으로 응답 (RFC 9110 허용)
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+            if (from.isEmpty()) {
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(from);
+            long end = to.isEmpty() ? length - 1 : Long.parseLong(to);
+            if (end < start) {
+                // 문법상 잘못된 구간은 무시
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.busanit501.bootproject.controller;
 
 import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
 import com.busanit501.bootproject.dto.UserLoginDTO;
 import com.busanit501.bootproject.dto.UserRegisterDTO;
 import com.busanit501.bootproject.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,7 +43,7 @@ public class UserController {
     @PostMapping("/login")
     public String loginSubmit(@Valid @ModelAttribute("userLoginDTO") UserLoginDTO dto,
                               BindingResult bindingResult,
-                              HttpSession session,
+                              HttpServletRequest request,
                               Model model) {
         if (bindingResult.hasErrors()) {
             return "user/login"; // 유효성 검사 오류 시 로그인 폼 재표시
@@ -49,7 +51,10 @@ public class UserController {
 
         try {
             User user = userService.login(dto);
-            session.setAttribute("loginUser", user); // 세션에 사용자 정보 저장
+            HttpSession session = request.getSession();
+            request.changeSessionId(); // 세션 고정 공격 방지
+            // 엔티티 대신 ID, 이름, 권한만 세션에 저장 (비밀번호 제외, 직렬화 가능)
+            session.setAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE, LoginUserPrincipal.from(user));
             return "redirect:/matching/list"; // 로그인 성공 후 매칭방 목록으로 이동
         } catch (RuntimeException e) {
             model.addAttribute("error", e.getMessage());
@@ -100,7 +105,8 @@ public class UserController {
      */
     @GetMapping("/home")
     public String home(HttpSession session, Model model) {
-        User loginUser = getLoginUser(session);
+        LoginUserPrincipal principal = getLoginUser(session);
+        User loginUser = principal == null ? null : userService.findLoginUser(principal.getUserId());
         if (loginUser == null) {
             return "redirect:/user/login";
         }
@@ -113,7 +119,7 @@ public class UserController {
     /**
      * 세션에서 로그인한 사용자 정보를 가져옴
      */
-    private User getLoginUser(HttpSession session) {
-        return (User) session.getAttribute("loginUser");
+    private LoginUserPrincipal getLoginUser(HttpSession session) {
+        return (LoginUserPrincipal) session.getAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE);
     }
 }
@@ -0,0 +1,42 @@
+package com.busanit501.bootproject.domain;
+
+import com.busanit501.bootproject.enums.CacheRegion;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 기록 (변경 테이블)
+ * 데이터를 바꾼 트랜잭션 안에서 함께 INSERT 되므로 커밋된 변경만 다른 노드에 전달되고,
+ * 각 노드는 주기적으로 새 기록을 읽어 자기 노드의 캐시를 비웁니다. (ClusterCacheInvalidator)
+ */
+@Builder
+@AllArgsConstructor
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "cache_invalidation",
+        indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CacheRegion region;
+
+    // 변경된 대상 ID (매칭방 ID)
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // 기록한 노드 (자기 노드의 기록은 이미 반영되어 있으므로 건너뜀)
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -16,7 +16,9 @@ import java.time.LocalTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "calendar")
+@Table(name = "calendar",
+        uniqueConstraints = @UniqueConstraint(name = "uk_calendar_user_room",
+                columnNames = {"user_id", "matching_room_id"}))
 public class Calendar extends BaseEntity {
 
     @Id
@@ -33,6 +35,9 @@ public class Calendar extends BaseEntity {
 //    @Column(name = "matching_id", nullable = true)
 //    private Long matchingId;
 
+    @Column(name = "matching_room_id")
+    private Long matchingRoomId;  // 일정을 확정한 매칭방 ID (직접 등록한 일정은 null)
+
     @Column(name = "schedule_name", nullable = false)
     private String schedulename;
 
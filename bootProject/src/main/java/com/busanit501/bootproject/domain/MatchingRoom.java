@@ -2,6 +2,9 @@ package com.busanit501.bootproject.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -16,7 +19,10 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "matching_rooms")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "matching_rooms",
+        indexes = @Index(name = "idx_matching_rooms_profile_picture", columnList = "profile_picture"))
 public class MatchingRoom extends BaseEntity {
 
     @Id
@@ -52,17 +58,25 @@ public class MatchingRoom extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 승인/대기 중인 참가자(유저) 수 - participants 컬렉션을 읽지 않고 목록/정원 확인에 사용
+    // 엔티티 변경 감지로는 갱신하지 않고, MatchingRoomRepository 의 증감 쿼리로만 갱신 (updatable = false)
+    @Column(name = "accepted_user_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long acceptedUserCount = 0L;
+
+    @Column(name = "pending_user_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long pendingUserCount = 0L;
+
     @OneToMany(mappedBy = "matchingRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     @OnDelete(action = OnDeleteAction.CASCADE) // 외래 키 삭제 시 CASCADE 동작
     private List<RoomParticipant> participants = new ArrayList<>();
 
     public Long getCurrentParticipants() {
-        return participants.stream()
-                .filter(p -> p.getStatus() == RoomParticipant.ParticipantStatus.Accepted)
-                .map(RoomParticipant::getUser)
-                .distinct()
-                .count();
+        return acceptedUserCount;
     }
 
 }
@@ -5,12 +5,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "pets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "pets",
+        indexes = @Index(name = "idx_pets_profile_picture", columnList = "profile_picture"))
 public class Pet extends BaseEntity {
 
     @Id
@@ -9,7 +9,9 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "room_participants")
+@Table(name = "room_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_room_participant_pet",
+                columnNames = {"matching_room_id", "user_id", "pet_id"}))
 public class RoomParticipant extends BaseEntity {
 
     @Id
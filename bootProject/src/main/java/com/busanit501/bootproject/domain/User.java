@@ -3,6 +3,8 @@ package com.busanit501.bootproject.domain;
 import com.busanit501.bootproject.enums.Gender;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Builder
 @AllArgsConstructor
@@ -10,6 +12,8 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 public class User extends BaseEntity {
 
@@ -0,0 +1,48 @@
+package com.busanit501.bootproject.dto;
+
+import com.busanit501.bootproject.domain.User;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 세션에 저장하는 로그인 사용자 정보 (사용자 ID, 이름, 권한만 보관)
+ * User 엔티티 대신 저장하므로 비밀번호가 세션에 남지 않고,
+ * 세션이 작아져 JDBC 세션 저장소(클러스터)로 직렬화해도 부담이 적습니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class LoginUserPrincipal implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // HttpSession 속성 이름
+    public static final String SESSION_ATTRIBUTE = "loginUser";
+
+    // 현재는 일반 사용자 권한만 존재
+    public static final String ROLE_USER = "USER";
+
+    private final Long userId;
+    private final String name;
+    private final List<String> roles;
+
+    public LoginUserPrincipal(Long userId, String name, List<String> roles) {
+        this.userId = userId;
+        this.name = name;
+        this.roles = List.copyOf(roles);
+    }
+
+    public static LoginUserPrincipal from(User user) {
+        return new LoginUserPrincipal(user.getUserId(), user.getName(), List.of(ROLE_USER));
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+}
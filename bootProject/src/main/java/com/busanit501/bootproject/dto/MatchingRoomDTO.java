@@ -1,5 +1,7 @@
 package com.busanit501.bootproject.dto;
 
+import com.busanit501.bootproject.enums.ImageVariant;
+import com.busanit501.bootproject.service.ImageStorageService;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -53,5 +55,17 @@ public class MatchingRoomDTO {
     private String petType;
     private MatchingUserDTO user; // 수정된 부분
 
+    /**
+     * 목록 카드용 축소본 이미지 URL (무한 스크롤 JSON 응답에도 포함)
+     */
+    public String getListPicture() {
+        return ImageStorageService.variantUrl(profilePicture, ImageVariant.LIST);
+    }
 
+    /**
+     * 상세 화면 메인 이미지용 축소본 URL
+     */
+    public String getDetailPicture() {
+        return ImageStorageService.variantUrl(profilePicture, ImageVariant.DETAIL);
+    }
 }
@@ -0,0 +1,31 @@
+package com.busanit501.bootproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매칭방 목록의 한 페이지(키셋 페이지네이션 결과)를 나타내는 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingRoomPageDTO {
+
+    /**
+     * 현재 페이지의 매칭방 목록 (최신순)
+     */
+    private List<MatchingRoomDTO> rooms;
+
+    /**
+     * 다음 페이지 요청 시 사용할 커서 (현재 페이지 마지막 방의 ID, 다음 페이지가 없으면 null)
+     */
+    private Long nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
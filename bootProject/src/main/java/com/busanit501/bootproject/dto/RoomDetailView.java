@@ -0,0 +1,54 @@
+package com.busanit501.bootproject.dto;
+
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭방 상세 화면(matching/detail)에 필요한 데이터를 한 번에 담는 읽기 전용 모델
+ * 매칭방, 호스트, 참가자, 참가자의 사용자/펫을 한 번의 fetch join 쿼리로 읽은 뒤 메모리에서 나눕니다.
+ * 엔티티는 모두 초기화된 상태이므로 화면에서 지연 로딩이 발생하지 않습니다.
+ */
+@Getter
+@Builder
+public class RoomDetailView {
+
+    /**
+     * 매칭방 정보
+     */
+    private final MatchingRoomDTO room;
+
+    /**
+     * 대기(Pending) 중인 사용자별 펫 목록 (신청 순)
+     */
+    private final Map<User, List<Pet>> pendingMap;
+
+    /**
+     * 승인(Accepted)된 사용자별 펫 목록 (신청 순, 호스트 포함)
+     */
+    private final Map<User, List<Pet>> acceptedMap;
+
+    private final List<RoomParticipant> pendingParticipants;
+
+    private final List<RoomParticipant> acceptedParticipants;
+
+    /**
+     * 로그인 사용자가 방장인지 여부
+     */
+    private final boolean host;
+
+    /**
+     * 로그인 사용자가 이미 신청(대기 또는 승인)했는지 여부
+     */
+    private final boolean applied;
+
+    /**
+     * 신청 모달에서 선택할 로그인 사용자의 펫 목록 (방장이면 null)
+     */
+    private final List<Pet> userPets;
+}
@@ -0,0 +1,41 @@
+package com.busanit501.bootproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매칭방 검색 색인에 넣을 문서 (검색 대상 필드만 담음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSearchDocument {
+
+    /**
+     * 매칭방 ID
+     */
+    private Long roomId;
+
+    /**
+     * 제목
+     */
+    private String title;
+
+    /**
+     * 설명
+     */
+    private String description;
+
+    /**
+     * 모임 장소
+     */
+    private String place;
+
+    /**
+     * 참가자(호스트 포함) 펫 타입 목록
+     */
+    private List<String> petTypes;
+}
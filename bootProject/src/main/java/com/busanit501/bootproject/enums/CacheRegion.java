@@ -0,0 +1,10 @@
+package com.busanit501.bootproject.enums;
+
+/**
+ * 노드 간 무효화 대상 캐시 (ClusterCacheInvalidator 가 다른 노드의 변경을 받아 처리)
+ */
+public enum CacheRegion {
+    ROOM,        // 매칭방 엔티티 2차 캐시 + 검색 색인
+    PARTICIPANT, // 참가자 수(매칭방 카운터) 2차 캐시 + 쿼리 캐시
+    KEYWORD      // 인기 키워드 집계
+}
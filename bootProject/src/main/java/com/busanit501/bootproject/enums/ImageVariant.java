@@ -0,0 +1,55 @@
+package com.busanit501.bootproject.enums;
+
+/**
+ * 업로드 이미지의 축소본 종류
+ * 원본 파일명 뒤(확장자 앞)에 접미사를 붙여 같은 폴더에 저장합니다.
+ * 예) /upload/abc.jpg → /upload/abc_list.jpg, /upload/abc_detail.jpg
+ */
+public enum ImageVariant {
+    LIST("_list", 480, 360),      // 목록 카드
+    DETAIL("_detail", 1280, 960); // 상세 화면 메인 이미지
+
+    private final String suffix;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    ImageVariant(String suffix, int maxWidth, int maxHeight) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * 원본 경로(또는 파일명)에 대한 축소본 경로
+     */
+    public String pathOf(String original) {
+        int dot = original.lastIndexOf('.');
+        if (dot <= original.lastIndexOf('/')) {
+            return original + suffix;
+        }
+        return original.substring(0, dot) + suffix + original.substring(dot);
+    }
+
+    /**
+     * 축소본 경로이면 원본 경로를, 아니면 null 을 반환
+     */
+    public static String originalOf(String path) {
+        int dot = path.lastIndexOf('.');
+        String base = dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+        String extension = dot > path.lastIndexOf('/') ? path.substring(dot) : "";
+        for (ImageVariant variant : values()) {
+            if (base.endsWith(variant.suffix)) {
+                return base.substring(0, base.length() - variant.suffix.length()) + extension;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.busanit501.bootproject.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 업로드 이미지 참조가 하나 줄었음을 알리는 이벤트 (매칭방 이미지 교체, 매칭방 삭제)
+ * 커밋 후 UploadGarbageCollector 가 남은 참조가 없으면 파일을 삭제합니다.
+ */
+@Getter
+@ToString
+public class ImageReleasedEvent {
+
+    private final String url;
+
+    public ImageReleasedEvent(String url) {
+        this.url = url;
+    }
+}
@@ -0,0 +1,39 @@
+package com.busanit501.bootproject.event;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 매칭방이 생성/수정/삭제되었음을 알리는 이벤트
+ * 검색 색인, 인기 키워드 집계처럼 매칭방 내용으로 만든 메모리 데이터를 갱신하는 데 사용합니다.
+ * 구독자는 트랜잭션이 커밋된 뒤에 처리하므로 롤백된 변경은 반영되지 않습니다.
+ */
+@Getter
+@ToString
+public class MatchingRoomChangedEvent {
+
+    private final Long roomId;
+
+    /**
+     * 변경 후 매칭방 내용 (삭제된 경우 null)
+     */
+    private final RoomSearchDocument document;
+
+    private MatchingRoomChangedEvent(Long roomId, RoomSearchDocument document) {
+        this.roomId = roomId;
+        this.document = document;
+    }
+
+    public static MatchingRoomChangedEvent saved(RoomSearchDocument document) {
+        return new MatchingRoomChangedEvent(document.getRoomId(), document);
+    }
+
+    public static MatchingRoomChangedEvent deleted(Long roomId) {
+        return new MatchingRoomChangedEvent(roomId, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
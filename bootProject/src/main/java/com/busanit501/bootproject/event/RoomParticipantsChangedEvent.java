@@ -0,0 +1,19 @@
+package com.busanit501.bootproject.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 매칭방의 참가 신청/승인/거절로 참가자 상태와 카운터가 바뀌었음을 알리는 이벤트
+ * 다른 노드의 참가자 수 캐시를 비우는 데 사용합니다. (ClusterCacheInvalidator)
+ */
+@Getter
+@ToString
+public class RoomParticipantsChangedEvent {
+
+    private final Long roomId;
+
+    public RoomParticipantsChangedEvent(Long roomId) {
+        this.roomId = roomId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.busanit501.bootproject.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 매칭방 일정이 확정되었음을 알리는 이벤트
+ * 참가자 수와 관계없이 방 ID 만 담고, 캘린더 일정은 구독자가 커밋 후 비동기로 생성합니다.
+ * 같은 방에 대해 여러 번 발행되어도 일정이 중복 생성되지 않습니다. (CalendarService.createSchedules)
+ */
+@Getter
+@ToString
+public class ScheduleConfirmedEvent {
+
+    private final Long roomId;
+
+    /**
+     * 확정한 사용자 ID (MatchingService.confirmSchedule 에서 방장인지 확인된 값, 처리 로그에 남김)
+     */
+    private final Long confirmedBy;
+
+    public ScheduleConfirmedEvent(Long roomId, Long confirmedBy) {
+        this.roomId = roomId;
+        this.confirmedBy = confirmedBy;
+    }
+}
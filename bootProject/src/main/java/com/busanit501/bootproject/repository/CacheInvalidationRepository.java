@@ -0,0 +1,33 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * 기준 ID 이후의 무효화 기록 (ID 오름차순)
+     */
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * 가장 최근 기록 ID (기록이 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    Long findMaxId();
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,20 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.Calendar;
+
+import java.util.List;
+
+/**
+ * Calendar 일괄 저장용 저장소 조각(fragment)
+ * 스케줄 확정 시 참가자 수만큼 생기는 일정을 한 번의 INSERT ... ON DUPLICATE KEY UPDATE 로 저장합니다.
+ */
+public interface CalendarBatchRepository {
+
+    /**
+     * 일정 목록을 다중 행 upsert 로 저장 (ID 는 엔티티에 채워지지 않음)
+     * (사용자, 매칭방) 이 같은 일정이 이미 있으면 새로 만들지 않고 이름, 날짜, 시간, 장소만 갱신합니다.
+     *
+     * @param calendars 저장할 일정 목록
+     */
+    void upsertAll(List<Calendar> calendars);
+}
@@ -0,0 +1,86 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.Calendar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * CalendarBatchRepository 구현체 (MariaDB INSERT ... ON DUPLICATE KEY UPDATE)
+ * 중복 여부는 calendar 테이블의 유니크 키 uk_calendar_user_room (사용자, 매칭방) 으로 판단하므로
+ * 기존 일정을 먼저 조회하지 않습니다.
+ */
+public class CalendarBatchRepositoryImpl implements CalendarBatchRepository {
+
+    // 한 문장에 담을 최대 행 수 (max_allowed_packet, 바인드 변수 수 제한 대비)
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO calendar (user_id, matching_room_id, schedule_name, walk_date, walk_time, walk_place, status, " +
+                    "matching, schedul_start, schedul_end, created_at, updated_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 이미 있는 일정은 상태(사용자가 취소/완료 처리한 값)는 그대로 두고 방 정보만 갱신
+    // (방장이 모임 날짜/시간을 바꾼 뒤 다시 확정하면 기존 일정의 날짜/시간도 옮겨짐)
+    private static final String ON_DUPLICATE =
+            " ON DUPLICATE KEY UPDATE schedule_name = VALUES(schedule_name), " +
+                    "walk_date = VALUES(walk_date), walk_time = VALUES(walk_time), " +
+                    "walk_place = VALUES(walk_place), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CalendarBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(List<Calendar> calendars) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < calendars.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Calendar> chunk = calendars.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, calendars.size()));
+            jdbcTemplate.update(upsertSql(chunk.size()), ps -> {
+                int index = 1;
+                for (Calendar calendar : chunk) {
+                    index = bind(ps, index, calendar, now);
+                }
+            });
+        }
+    }
+
+    private static String upsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2)
+                + ON_DUPLICATE.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.append(ON_DUPLICATE).toString();
+    }
+
+    private static int bind(PreparedStatement ps, int index, Calendar calendar, Timestamp now) throws SQLException {
+        ps.setLong(index++, calendar.getUser().getUserId());
+        ps.setObject(index++, calendar.getMatchingRoomId(), Types.BIGINT);
+        ps.setString(index++, calendar.getSchedulename());
+        ps.setObject(index++, calendar.getWalkDate(), Types.DATE);
+        ps.setObject(index++, calendar.getWalkTime(), Types.TIME);
+        ps.setString(index++, calendar.getWalkPlace());
+        ps.setString(index++, calendar.getStatus().name());
+        ps.setObject(index++, calendar.getMatching(), Types.BOOLEAN);
+        ps.setObject(index++, calendar.getSchedulStart(), Types.TIME);
+        ps.setObject(index++, calendar.getSchedulEnd(), Types.TIME);
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+        return index;
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface CalendarRepository extends JpaRepository<Calendar, Long> {
+public interface CalendarRepository extends JpaRepository<Calendar, Long>, CalendarBatchRepository {
     // 사용자와 일정 이름으로 일정 조회
     Optional<Calendar> findByUserAndSchedulename(User user, String schedulename);
 }
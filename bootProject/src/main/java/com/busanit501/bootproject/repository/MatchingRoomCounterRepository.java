@@ -0,0 +1,30 @@
+package com.busanit501.bootproject.repository;
+
+/**
+ * 매칭방 참가자 카운터 증감용 저장소 조각(fragment)
+ * JPQL bulk UPDATE 는 하이버네이트가 MatchingRoom 2차 캐시 영역 전체를 비우므로
+ * (참가 신청/승인/거절마다 모든 방의 캐시가 사라짐) JDBC 로 직접 갱신하고 바뀐 방 하나만 캐시에서 제거합니다.
+ */
+public interface MatchingRoomCounterRepository {
+
+    /**
+     * 승인/대기 참가자 수를 원자적으로 증감합니다.
+     * 참가 상태를 바꾸는 서비스 메서드와 같은 트랜잭션에서 호출됩니다.
+     *
+     * @param roomId        매칭방 ID
+     * @param acceptedDelta 승인 인원 증감값
+     * @param pendingDelta  대기 인원 증감값
+     * @return 변경된 행 수
+     */
+    int adjustParticipantCounts(Long roomId, long acceptedDelta, long pendingDelta);
+
+    /**
+     * 정원이 남아 있을 때만 승인 인원을 1 늘리는 조건부 UPDATE (좌석 예약)
+     * 확인과 증가가 한 문장에서 행 잠금 아래 처리되므로 동시에 승인해도 정원을 넘지 않습니다.
+     *
+     * @param roomId       매칭방 ID
+     * @param pendingDelta 대기 인원에서 뺄 값 (Pending -> Accepted 이면 1, 그 외 0)
+     * @return 예약 성공 시 1, 정원 초과 시 0
+     */
+    int reserveAcceptedSeat(Long roomId, long pendingDelta);
+}
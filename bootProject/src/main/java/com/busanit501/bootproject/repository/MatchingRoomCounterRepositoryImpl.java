@@ -0,0 +1,76 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * MatchingRoomCounterRepository 구현체 (JdbcTemplate.update)
+ * JPA 와 같은 트랜잭션(커넥션)에서 실행되므로 롤백도 함께 적용됩니다.
+ *
+ * 바뀐 방은 트랜잭션이 끝난 뒤(커밋/롤백 후) 2차 캐시에서 제거합니다.
+ * 커밋 전에 제거하면 그 사이 다른 요청이 커밋 전 값을 다시 캐시에 넣을 수 있고,
+ * 같은 트랜잭션에서 방 엔티티를 수정한 경우(updateRoom) 커밋 시 캐시에 들어간 예전 카운터도 함께 지워집니다.
+ * 다른 노드의 캐시는 ClusterCacheInvalidator 가 참가자 변경 기록으로 방 단위로 제거합니다.
+ */
+public class MatchingRoomCounterRepositoryImpl implements MatchingRoomCounterRepository {
+
+    private static final String ADJUST_SQL =
+            "UPDATE matching_rooms SET accepted_user_count = accepted_user_count + ?, " +
+                    "pending_user_count = pending_user_count + ? WHERE room_id = ?";
+
+    private static final String RESERVE_SQL =
+            "UPDATE matching_rooms SET accepted_user_count = accepted_user_count + 1, " +
+                    "pending_user_count = pending_user_count - ? " +
+                    "WHERE room_id = ? AND accepted_user_count < max_participants";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public MatchingRoomCounterRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                             EntityManager entityManager,
+                                             EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public int adjustParticipantCounts(Long roomId, long acceptedDelta, long pendingDelta) {
+        return update(roomId, ADJUST_SQL, acceptedDelta, pendingDelta, roomId);
+    }
+
+    @Override
+    public int reserveAcceptedSeat(Long roomId, long pendingDelta) {
+        return update(roomId, RESERVE_SQL, pendingDelta, roomId);
+    }
+
+    private int update(Long roomId, String sql, Object... args) {
+        // @Modifying(flushAutomatically = true) 와 같이 먼저 쓰기 지연된 변경을 반영
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, args);
+        if (updated > 0) {
+            evictAfterCompletion(roomId);
+        }
+        return updated;
+    }
+
+    private void evictAfterCompletion(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(MatchingRoom.class, roomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                entityManagerFactory.getCache().evict(MatchingRoom.class, roomId);
+            }
+        });
+    }
+}
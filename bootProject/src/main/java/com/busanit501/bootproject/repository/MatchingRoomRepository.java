@@ -1,28 +1,143 @@
 package com.busanit501.bootproject.repository;
 
 import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface MatchingRoomRepository extends JpaRepository<MatchingRoom, Long> {
+/**
+ * 매칭방 저장소
+ * 참가자 카운터 증감(adjustParticipantCounts, reserveAcceptedSeat)은 MatchingRoomCounterRepository 조각에서 JDBC 로 처리합니다.
+ */
+public interface MatchingRoomRepository extends JpaRepository<MatchingRoom, Long>, MatchingRoomCounterRepository {
 
-    @Query("SELECT r.title FROM MatchingRoom r")
-    List<String> findAllTitles();
+    /**
+     * 키셋(커서) 페이지네이션 - 첫 페이지
+     * room_id 내림차순(최신순)으로 pageable 의 크기만큼만 조회합니다.
+     * 카드에 표시할 호스트(user)는 fetch join 으로 함께 가져옵니다.
+     *
+     * @param pageable 페이지 크기 (offset 은 항상 0)
+     * @return 매칭방 목록
+     */
+    @Query("SELECT r FROM MatchingRoom r JOIN FETCH r.user ORDER BY r.roomId DESC")
+    List<MatchingRoom> findLatestRooms(Pageable pageable);
 
-    @Query("SELECT r.place FROM MatchingRoom r")
-    List<String> findAllPlaces();
+    /**
+     * 키셋(커서) 페이지네이션 - 다음 페이지
+     * 커서(직전 페이지의 마지막 room_id)보다 작은 방만 PK 인덱스로 탐색하므로
+     * 페이지가 뒤로 갈수록 느려지는 OFFSET 방식과 달리 조회 비용이 일정합니다.
+     *
+     * @param cursor   직전 페이지의 마지막 room_id
+     * @param pageable 페이지 크기 (offset 은 항상 0)
+     * @return 매칭방 목록
+     */
+    @Query("SELECT r FROM MatchingRoom r JOIN FETCH r.user WHERE r.roomId < :cursor ORDER BY r.roomId DESC")
+    List<MatchingRoom> findRoomsBefore(@Param("cursor") Long cursor, Pageable pageable);
 
-    @Query("SELECT p.type FROM MatchingRoom r JOIN r.participants rp JOIN rp.pet p")
-    List<String> findAllPetTypes();
+    /**
+     * 여러 매칭방을 호스트(user)와 함께 조회합니다. (검색 결과 ID 목록으로 조회)
+     *
+     * @param roomIds 매칭방 ID 목록
+     * @return 매칭방 목록 (순서 보장 없음)
+     */
+    @Query("SELECT r FROM MatchingRoom r JOIN FETCH r.user WHERE r.roomId IN :roomIds")
+    List<MatchingRoom> findAllWithUserByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * 상세 화면용: 매칭방을 호스트, 참가자, 참가자의 사용자/펫까지 한 번의 쿼리로 조회합니다.
+     * 참가자는 신청 순(participantId)으로 정렬됩니다.
+     *
+     * @param roomId 매칭방 ID
+     * @return 매칭방 Optional 객체
+     */
+    @Query("SELECT r FROM MatchingRoom r " +
+            "JOIN FETCH r.user " +
+            "LEFT JOIN FETCH r.participants rp " +
+            "LEFT JOIN FETCH rp.user " +
+            "LEFT JOIN FETCH rp.pet " +
+            "WHERE r.roomId = :roomId " +
+            "ORDER BY rp.participantId")
+    Optional<MatchingRoom> findDetailById(@Param("roomId") Long roomId);
 
     @Query("SELECT DISTINCT r FROM MatchingRoom r " +
+            "JOIN FETCH r.user " +
             "LEFT JOIN r.participants rp " +
             "LEFT JOIN rp.pet p " +
             "WHERE LOWER(r.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
             "OR LOWER(r.place) LIKE LOWER(CONCAT('%', :query, '%')) " +
             "OR LOWER(p.type) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<MatchingRoom> searchRoomsByQuery(@Param("query") String query);
+
+    /**
+     * room_participants 를 기준으로 room_id 가 (afterRoomId, toRoomId] 범위인 방의
+     * 승인/대기 참가자 수를 다시 계산합니다. (보정용)
+     * 한 번에 잠그는 행을 범위 안으로 제한하기 위해 PK 범위 단위로 나누어 호출합니다.
+     * JPQL bulk UPDATE 라 이 노드의 MatchingRoom 2차 캐시 영역 전체가 비워집니다. (하루 한 번 보정 작업이므로 허용)
+     *
+     * @param afterRoomId 시작 room_id (제외)
+     * @param toRoomId    끝 room_id (포함)
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MatchingRoom r SET " +
+            "r.acceptedUserCount = (SELECT COUNT(DISTINCT a.user.userId) FROM RoomParticipant a " +
+            "WHERE a.matchingRoom.roomId = r.roomId AND a.status = :accepted), " +
+            "r.pendingUserCount = (SELECT COUNT(DISTINCT p.user.userId) FROM RoomParticipant p " +
+            "WHERE p.matchingRoom.roomId = r.roomId AND p.status = :pending) " +
+            "WHERE r.roomId > :afterRoomId AND r.roomId <= :toRoomId")
+    int rebuildParticipantCounts(@Param("afterRoomId") Long afterRoomId,
+                                 @Param("toRoomId") Long toRoomId,
+                                 @Param("accepted") RoomParticipant.ParticipantStatus accepted,
+                                 @Param("pending") RoomParticipant.ParticipantStatus pending);
+
+    /**
+     * 가장 큰 room_id (없으면 0, 카운터 보정 범위 계산용)
+     *
+     * @return 최대 room_id
+     */
+    @Query("SELECT COALESCE(MAX(r.roomId), 0) FROM MatchingRoom r")
+    long findMaxRoomId();
+
+    /**
+     * 같은 이미지를 사용하는 매칭방 수 (업로드 이미지 참조 수 확인용)
+     *
+     * @param profilePicture 이미지 URL
+     * @return 매칭방 수
+     */
+    long countByProfilePicture(String profilePicture);
+
+    /**
+     * 매칭방 이미지 URL 목록 (업로드 폴더 정리용)
+     *
+     * @return 중복 없는 이미지 URL 목록
+     */
+    @Query("SELECT DISTINCT r.profilePicture FROM MatchingRoom r WHERE r.profilePicture IS NOT NULL")
+    List<String> findAllProfilePictures();
+
+    /**
+     * 모집 중인 매칭방 수 (모임 날짜가 지나지 않았고 승인 인원이 남은 방, 운영 지표용)
+     *
+     * @param today 기준 날짜
+     * @return 매칭방 수
+     */
+    @Query("SELECT COUNT(r) FROM MatchingRoom r " +
+            "WHERE r.meetingDate >= :today AND r.acceptedUserCount < r.maxParticipants")
+    long countOpenRooms(@Param("today") LocalDate today);
+
+    /**
+     * 모임 날짜가 지나지 않은 매칭방의 대기 중인 참가 신청 수 합계 (운영 지표용)
+     *
+     * @param today 기준 날짜
+     * @return 대기 신청 수
+     */
+    @Query("SELECT COALESCE(SUM(r.pendingUserCount), 0) FROM MatchingRoom r WHERE r.meetingDate >= :today")
+    long sumPendingUserCount(@Param("today") LocalDate today);
 }
@@ -2,7 +2,10 @@ package com.busanit501.bootproject.repository;
 
 import com.busanit501.bootproject.domain.Pet;
 import com.busanit501.bootproject.domain.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,9 +25,28 @@ public interface PetRepository extends JpaRepository<Pet, Long> {
 
     /**
      * 사용자 ID로 모든 펫 조회
+     * 매칭방 생성/상세 화면마다 호출되므로 쿼리 캐시에 결과(펫 ID 목록)를 보관하고,
+     * pets 테이블이 변경되면 하이버네이트가 자동으로 무효화합니다.
      *
      * @param userId 사용자 ID
      * @return 펫 목록
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Pet> findAllByUser_UserId(Long userId);
+
+    /**
+     * 같은 프로필 이미지를 사용하는 펫 수 (업로드 이미지 참조 수 확인용)
+     *
+     * @param profilePicture 이미지 URL
+     * @return 펫 수
+     */
+    long countByProfilePicture(String profilePicture);
+
+    /**
+     * 펫 프로필 이미지 URL 목록 (업로드 폴더 정리용)
+     *
+     * @return 중복 없는 이미지 URL 목록
+     */
+    @Query("SELECT DISTINCT p.profilePicture FROM Pet p WHERE p.profilePicture IS NOT NULL")
+    List<String> findAllProfilePictures();
 }
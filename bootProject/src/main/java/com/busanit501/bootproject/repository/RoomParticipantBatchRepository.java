@@ -0,0 +1,21 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.RoomParticipant;
+
+import java.util.List;
+
+/**
+ * RoomParticipant 일괄 저장용 저장소 조각(fragment)
+ * 엔티티 ID 가 IDENTITY 전략이라 하이버네이트가 JDBC 배치를 쓰지 못하므로, JDBC 배치 INSERT 로 직접 저장합니다.
+ */
+public interface RoomParticipantBatchRepository {
+
+    /**
+     * 참가자 목록을 JDBC 배치 INSERT 로 저장 (BATCH_SIZE 건마다 한 번 전송)
+     * 저장된 행의 ID 는 엔티티에 채워지지 않으며, 영속성 컨텍스트에도 들어가지 않습니다.
+     * (방, 사용자, 펫) 유니크 제약 위반 시 DataIntegrityViolationException 이 발생합니다.
+     *
+     * @param participants 저장할 참가자 목록 (matchingRoom, user, pet, status 필수)
+     */
+    void insertAll(List<RoomParticipant> participants);
+}
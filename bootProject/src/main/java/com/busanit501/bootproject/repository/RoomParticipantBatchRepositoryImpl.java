@@ -0,0 +1,47 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.RoomParticipant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RoomParticipantBatchRepository 구현체 (JdbcTemplate.batchUpdate)
+ * JPA 와 같은 트랜잭션(커넥션)에서 실행되므로 롤백도 함께 적용됩니다.
+ */
+public class RoomParticipantBatchRepositoryImpl implements RoomParticipantBatchRepository {
+
+    // 한 번에 전송할 최대 행 수 (hibernate.jdbc.batch_size 와 동일)
+    private static final int BATCH_SIZE = 50;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_participants (matching_room_id, user_id, pet_id, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RoomParticipantBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<RoomParticipant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        // JDBC 로 직접 저장하므로 등록/수정 시간(@CreatedDate, @LastModifiedDate)도 직접 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, participants, BATCH_SIZE, (ps, participant) -> {
+            ps.setLong(1, participant.getMatchingRoom().getRoomId());
+            ps.setLong(2, participant.getUser().getUserId());
+            ps.setLong(3, participant.getPet().getPetId());
+            ps.setString(4, participant.getStatus().name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -9,10 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RoomParticipantRepository extends JpaRepository<RoomParticipant, Long> {
+public interface RoomParticipantRepository
+        extends JpaRepository<RoomParticipant, Long>, RoomParticipantBatchRepository {
     @Modifying
     @Query("DELETE FROM RoomParticipant rp WHERE rp.matchingRoom = :room AND rp.user = :user")
     void deleteAllByMatchingRoomAndUser(@Param("room") MatchingRoom room, @Param("user") User user);
@@ -49,4 +51,54 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     List<RoomParticipant> findAllByMatchingRoom_RoomIdAndStatus(Long roomId, RoomParticipant.ParticipantStatus status);
 
     List<RoomParticipant> findAllByMatchingRoomAndStatus(MatchingRoom room, RoomParticipant.ParticipantStatus participantStatus);
+
+    /**
+     * 여러 매칭방의 참가자를 펫/사용자와 함께 한 번에 조회합니다.
+     * 목록 화면의 DTO 변환 시 방마다 participants 컬렉션과 지연 로딩 프록시를
+     * 개별 초기화하는 N+1 문제를 피하기 위한 배치 조회입니다.
+     *
+     * @param roomIds 매칭방 ID 목록
+     * @return 참가자 목록 (펫, 사용자 fetch join)
+     */
+    @Query("SELECT rp FROM RoomParticipant rp " +
+            "JOIN FETCH rp.pet " +
+            "JOIN FETCH rp.user " +
+            "WHERE rp.matchingRoom.roomId IN :roomIds " +
+            "ORDER BY rp.participantId")
+    List<RoomParticipant> findAllWithPetAndUserByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * 특정 사용자의 참가 상태를 from 상태일 때만 to 로 변경합니다. (조건부 상태 전환)
+     * 동시에 다른 요청이 먼저 상태를 바꿨다면 0 을 반환합니다.
+     *
+     * @param roomId 매칭방 ID
+     * @param userId 사용자 ID
+     * @param from   기대하는 현재 상태
+     * @param to     변경할 상태
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RoomParticipant rp SET rp.status = :to " +
+            "WHERE rp.matchingRoom.roomId = :roomId AND rp.user.userId = :userId AND rp.status = :from")
+    int changeStatus(@Param("roomId") Long roomId,
+                     @Param("userId") Long userId,
+                     @Param("from") RoomParticipant.ParticipantStatus from,
+                     @Param("to") RoomParticipant.ParticipantStatus to);
+
+    /**
+     * 검색 색인 구성용: 모든 참가자의 (매칭방 ID, 펫 타입) 목록
+     *
+     * @return [roomId(Long), petType(String)] 배열 목록
+     */
+    @Query("SELECT rp.matchingRoom.roomId, p.type FROM RoomParticipant rp JOIN rp.pet p")
+    List<Object[]> findAllRoomIdAndPetTypes();
+
+    /**
+     * 특정 매칭방 참가자들의 펫 타입 목록
+     *
+     * @param roomId 매칭방 ID
+     * @return 펫 타입 목록
+     */
+    @Query("SELECT p.type FROM RoomParticipant rp JOIN rp.pet p WHERE rp.matchingRoom.roomId = :roomId")
+    List<String> findPetTypesByRoomId(@Param("roomId") Long roomId);
 }
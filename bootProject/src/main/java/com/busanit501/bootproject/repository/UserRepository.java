@@ -2,7 +2,11 @@ package com.busanit501.bootproject.repository;
 
 import com.busanit501.bootproject.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +46,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByPhoneNumber(String phoneNumber);
 
+    /**
+     * 비밀번호 해시 교체 (조회 이후 다른 요청이 먼저 바꿨다면 0건)
+     *
+     * @param userId      사용자 ID
+     * @param oldPassword 조회 시점의 저장 값
+     * @param newPassword 새 해시
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.userId = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
     // --------------------- 확장 가능 메서드 ---------------------
 
     /**
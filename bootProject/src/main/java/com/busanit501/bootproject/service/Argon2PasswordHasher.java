@@ -0,0 +1,59 @@
+package com.busanit501.bootproject.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Argon2id 비밀번호 해시 ($argon2id$v=19$m=메모리KB,t=반복,p=병렬$솔트$해시)
+ * 기본값은 OWASP 권장 최소값(m=19 MiB, t=2, p=1)이며, 메모리 사용량이 커서 GPU 공격에 강합니다.
+ */
+@Component
+public class Argon2PasswordHasher implements PasswordHasher {
+
+    public static final String ALGORITHM = "argon2id";
+
+    private static final String PREFIX = "$argon2id$";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    // 해시 문자열에 기록되는 비용 부분 (예: m=19456,t=2,p=1)
+    private final String parameters;
+    private final Argon2PasswordEncoder encoder;
+
+    @Autowired
+    public Argon2PasswordHasher(@Value("${user.password.argon2.memory-kb:19456}") int memoryKb,
+                                @Value("${user.password.argon2.iterations:2}") int iterations,
+                                @Value("${user.password.argon2.parallelism:1}") int parallelism) {
+        this.parameters = "m=" + memoryKb + ",t=" + iterations + ",p=" + parallelism;
+        this.encoder = new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, parallelism, memoryKb, iterations);
+    }
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public boolean supports(String encoded) {
+        return encoded != null && encoded.startsWith(PREFIX);
+    }
+
+    @Override
+    public String hash(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encoded) {
+        return encoder.matches(rawPassword, encoded);
+    }
+
+    @Override
+    public boolean needsRehash(String encoded) {
+        // $argon2id$v=19$m=...,t=...,p=...$salt$hash
+        String[] parts = encoded.split("\\$");
+        return parts.length != 6 || !parameters.equals(parts[3]);
+    }
+}
@@ -0,0 +1,56 @@
+package com.busanit501.bootproject.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 비밀번호 해시 ($2a$강도$...)
+ * 강도(strength)가 1 오를 때마다 계산 시간이 두 배가 됩니다. (PasswordHashBenchmark 로 측정)
+ */
+@Component
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    public static final String ALGORITHM = "bcrypt";
+
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+
+    @Autowired
+    public BCryptPasswordHasher(@Value("${user.password.bcrypt.strength:10}") int strength) {
+        this.strength = strength;
+        this.encoder = new BCryptPasswordEncoder(strength);
+    }
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public boolean supports(String encoded) {
+        return encoded != null && BCRYPT.matcher(encoded).matches();
+    }
+
+    @Override
+    public String hash(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encoded) {
+        return encoder.matches(rawPassword, encoded);
+    }
+
+    @Override
+    public boolean needsRehash(String encoded) {
+        Matcher matcher = BCRYPT.matcher(encoded);
+        return !matcher.matches() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -2,15 +2,22 @@ package com.busanit501.bootproject.service;
 
 import com.busanit501.bootproject.domain.Calendar;
 import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.RoomParticipant;
 import com.busanit501.bootproject.domain.User;
 import com.busanit501.bootproject.enums.ScheduleStatus;
+import com.busanit501.bootproject.exception.ResourceNotFoundException;
 import com.busanit501.bootproject.repository.CalendarRepository;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.RoomParticipantRepository;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Log4j2
@@ -19,42 +26,50 @@ public class CalendarService {
     @Autowired
     private CalendarRepository calendarRepository;
 
+    @Autowired
+    private MatchingRoomRepository roomRepository;
+
+    @Autowired
+    private RoomParticipantRepository participantRepository;
+
+    /**
+     * 매칭방의 호스트와 승인된 참가자에게 캘린더 일정을 생성
+     * (사용자, 방) 유니크 키에 대한 upsert 로 저장하므로 여러 번 호출해도(모임 날짜/시간을 바꾼 뒤 다시 확정해도)
+     * 일정이 중복되지 않고, 기존 일정을 미리 조회하지 않습니다.
+     * (일정 확정 이벤트를 비동기로 처리하는 ScheduleConfirmedListener 에서 호출)
+     *
+     * @param roomId 매칭방 ID
+     * @return 일정을 저장(생성 또는 갱신)한 사용자 수
+     */
     @Transactional
-    public void saveSchedule(User loginUser, MatchingRoom room, List<User> participants) {
-        log.info("Saving schedule for roomId: {} with participants", room.getRoomId());
+    public int createSchedules(Long roomId) {
+        MatchingRoom room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("매칭방을 찾을 수 없습니다. ID: " + roomId));
 
-        try {
-            // 매칭방 생성자(호스트) 저장
-            Calendar hostCalendar = Calendar.builder()
-                    .user(loginUser)
+        // 호스트도 승인된 참가자로 등록되어 있으므로 사용자 ID 기준으로 한 번만 포함
+        Map<Long, User> members = new LinkedHashMap<>();
+        members.put(room.getUser().getUserId(), room.getUser());
+        for (RoomParticipant participant : participantRepository.findAllByMatchingRoom_RoomIdAndStatus(
+                roomId, RoomParticipant.ParticipantStatus.Accepted)) {
+            members.putIfAbsent(participant.getUser().getUserId(), participant.getUser());
+        }
+
+        List<Calendar> calendars = new ArrayList<>(members.size());
+        for (User member : members.values()) {
+            calendars.add(Calendar.builder()
+                    .user(member)
+                    .matchingRoomId(roomId)
                     .schedulename(room.getTitle())
                     .walkDate(room.getMeetingDate())
                     .walkTime(room.getMeetingTime())
                     .walkPlace(room.getPlace())
                     .status(ScheduleStatus.SCHEDULED)
-                    .build();
-            calendarRepository.save(hostCalendar);
-
-            // 참여자 모두 저장
-            for (User participant : participants) {
-                Calendar participantCalendar = Calendar.builder()
-                        .user(participant)
-                        .schedulename(room.getTitle())
-                        .walkDate(room.getMeetingDate())
-                        .walkTime(room.getMeetingTime())
-                        .walkPlace(room.getPlace())
-                        .status(ScheduleStatus.SCHEDULED)
-                        .build();
-                calendarRepository.save(participantCalendar);
-                log.info("Schedule saved for participant: {}", participant.getUserId());
-            }
-
-            log.info("Schedule saved successfully for roomId: {}", room.getRoomId());
-        } catch (Exception ex) {
-            log.error("Error while saving schedule: ", ex);
-            throw ex;
+                    .build());
         }
+
+        // 참가자 수와 관계없이 한 문장으로 저장 (INSERT ... ON DUPLICATE KEY UPDATE)
+        calendarRepository.upsertAll(calendars);
+        log.debug("Schedule for roomId {}: {} entries upserted", roomId, calendars.size());
+        return calendars.size();
     }
 }
-
-
@@ -0,0 +1,198 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.CacheInvalidation;
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import com.busanit501.bootproject.enums.CacheRegion;
+import com.busanit501.bootproject.event.MatchingRoomChangedEvent;
+import com.busanit501.bootproject.event.RoomParticipantsChangedEvent;
+import com.busanit501.bootproject.repository.CacheInvalidationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 여러 노드로 운영할 때 노드마다 따로 가진 캐시(매칭방/참가자 2차 캐시, 검색 색인, 인기 키워드)를 맞추는 서비스
+ * 1) 변경 트랜잭션이 커밋되기 직전에 cache_invalidation 테이블에 (캐시 종류, 매칭방 ID)를 기록하고
+ * 2) 각 노드가 poll-interval 마다 새 기록을 읽어 다른 노드가 남긴 기록만 자기 캐시에 반영합니다.
+ * 메시지 브로커 없이 같은 DB 만으로 동작하며, 무효화는 여러 번 반영해도 결과가 같습니다.
+ *
+ * IDENTITY 키는 커밋 순서와 다를 수 있으므로(작은 ID 가 늦게 커밋) 커서는 settle-window 보다 오래된
+ * 기록까지만 앞으로 옮기고, 그 이후 기록은 이미 반영한 ID 를 기억해 중복 반영을 피합니다.
+ * cluster.cache-sync.enabled=true 일 때만 등록됩니다. (cluster 프로파일)
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(name = "cluster.cache-sync.enabled", havingValue = "true")
+public class ClusterCacheInvalidator {
+
+    private final CacheInvalidationRepository invalidationRepository;
+    private final RoomSearchDocumentLoader documentLoader;
+    private final RoomSearchService roomSearchService;
+    private final TopKeywordService topKeywordService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final String nodeId;
+    private final Duration settleWindow;
+    private final Duration retention;
+
+    // 이 ID 이하의 기록은 모두 반영됨 (시작 전에는 null)
+    private Long cursor;
+    // 커서 이후 기록 중 이미 반영한 ID
+    private final Set<Long> appliedAfterCursor = new HashSet<>();
+
+    @Autowired
+    public ClusterCacheInvalidator(CacheInvalidationRepository invalidationRepository,
+                                   RoomSearchDocumentLoader documentLoader,
+                                   RoomSearchService roomSearchService,
+                                   TopKeywordService topKeywordService,
+                                   EntityManagerFactory entityManagerFactory,
+                                   @Value("${cluster.node-id:}") String nodeId,
+                                   @Value("${cluster.cache-sync.settle-window-seconds:30}") long settleWindowSeconds,
+                                   @Value("${cluster.cache-sync.retention-minutes:10}") long retentionMinutes) {
+        this.invalidationRepository = invalidationRepository;
+        this.documentLoader = documentLoader;
+        this.roomSearchService = roomSearchService;
+        this.topKeywordService = topKeywordService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.settleWindow = Duration.ofSeconds(settleWindowSeconds);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // --------------------- 기록 (변경 트랜잭션 안에서) ---------------------
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(MatchingRoomChangedEvent event) {
+        record(CacheRegion.ROOM, event.getRoomId());
+        record(CacheRegion.KEYWORD, event.getRoomId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onParticipantsChanged(RoomParticipantsChangedEvent event) {
+        record(CacheRegion.PARTICIPANT, event.getRoomId());
+    }
+
+    private void record(CacheRegion region, Long entityId) {
+        invalidationRepository.save(CacheInvalidation.builder()
+                .region(region)
+                .entityId(entityId)
+                .originNode(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // --------------------- 반영 (주기적으로 폴링) ---------------------
+
+    /**
+     * 시작 시점까지의 기록은 건너뜀 (캐시는 시작할 때 DB 기준으로 새로 만들어짐)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        cursor = invalidationRepository.findMaxId();
+        appliedAfterCursor.clear();
+        log.info("Cluster cache sync started (node {}, cursor {})", nodeId, cursor);
+    }
+
+    /**
+     * 새 무효화 기록을 읽어 다른 노드가 남긴 기록을 반영
+     *
+     * @return 반영한 기록 수
+     */
+    @Scheduled(fixedDelayString = "${cluster.cache-sync.poll-interval:1000}")
+    public synchronized int poll() {
+        if (cursor == null) {
+            return 0;
+        }
+        List<CacheInvalidation> records = invalidationRepository.findByIdGreaterThanOrderByIdAsc(cursor);
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+
+        Map<CacheRegion, Set<Long>> changes = new EnumMap<>(CacheRegion.class);
+        int applied = 0;
+        long nextCursor = cursor;
+        for (CacheInvalidation record : records) {
+            if (appliedAfterCursor.add(record.getId()) && !nodeId.equals(record.getOriginNode())) {
+                changes.computeIfAbsent(record.getRegion(), k -> new LinkedHashSet<>()).add(record.getEntityId());
+                applied++;
+            }
+            if (record.getCreatedAt().isBefore(settledBefore)) {
+                nextCursor = record.getId();
+            }
+        }
+        cursor = nextCursor;
+        appliedAfterCursor.removeIf(id -> id <= cursor);
+
+        if (!changes.isEmpty()) {
+            apply(changes);
+            log.debug("Applied {} cache invalidations from other nodes: {}", applied, changes);
+        }
+        return applied;
+    }
+
+    private void apply(Map<CacheRegion, Set<Long>> changes) {
+        Set<Long> roomIds = changes.getOrDefault(CacheRegion.ROOM, Set.of());
+        Set<Long> keywordRoomIds = changes.getOrDefault(CacheRegion.KEYWORD, Set.of());
+
+        // 1) 2차 캐시 먼저 비워야 아래에서 문서를 다시 읽을 때 DB 값을 읽음
+        Set<Long> evicted = new HashSet<>(roomIds);
+        evicted.addAll(changes.getOrDefault(CacheRegion.PARTICIPANT, Set.of()));
+        evicted.forEach(roomId -> entityManagerFactory.getCache().evict(MatchingRoom.class, roomId));
+
+        // 2) 검색 색인, 인기 키워드는 매칭방 문서를 한 번만 읽어 갱신 (삭제된 방은 제거)
+        Map<Long, RoomSearchDocument> documents = new HashMap<>();
+        Set<Long> reloaded = new LinkedHashSet<>(roomIds);
+        reloaded.addAll(keywordRoomIds);
+        reloaded.forEach(roomId -> documents.put(roomId, documentLoader.loadById(roomId)));
+
+        roomIds.forEach(roomId -> {
+            RoomSearchDocument document = documents.get(roomId);
+            if (document == null) {
+                roomSearchService.remove(roomId);
+            } else {
+                roomSearchService.index(document);
+            }
+        });
+        keywordRoomIds.forEach(roomId -> {
+            RoomSearchDocument document = documents.get(roomId);
+            if (document == null) {
+                topKeywordService.remove(roomId);
+            } else {
+                topKeywordService.update(document);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 기록 삭제 (모든 노드가 이미 읽은 기록)
+     */
+    @Scheduled(cron = "${cluster.cache-sync.cleanup-cron:0 */10 * * * *}")
+    @Transactional
+    public int purge() {
+        int deleted = invalidationRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        log.debug("Purged {} cache invalidation records", deleted);
+        return deleted;
+    }
+}
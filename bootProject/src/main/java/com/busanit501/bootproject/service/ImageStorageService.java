@@ -0,0 +1,254 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.config.AsyncConfig;
+import com.busanit501.bootproject.enums.ImageVariant;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 저장소 (내용 해시 기반, 같은 이미지는 한 번만 저장)
+ * 원본은 요청 스레드에서 파일 채널로 바로 저장하고, 목록/상세용 축소본(ImageVariant)은
+ * imageExecutor 스레드 풀에서 비동기로 만듭니다.
+ * 축소본이 아직 없으면 UploadController 가 원본을 대신 내려줍니다.
+ * 더 이상 참조되지 않는 파일은 UploadGarbageCollector 가 삭제합니다.
+ */
+@Log4j2
+@Service
+public class ImageStorageService {
+
+    // 화면에서 사용하는 업로드 이미지 URL 접두사 (UploadController 가 제공)
+    public static final String URL_PREFIX = "/upload/";
+
+    // 축소본을 만들 수 있는 확장자 (그 외 형식은 원본만 저장)
+    private static final Set<String> RESIZABLE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+
+    // 저장 중인 임시 파일 이름 접두사
+    static final String TEMP_PREFIX = "tmp-";
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // 내용 해시 파일명: SHA-256(16진수 64자) + 축소본 접미사(선택) + 확장자(선택)
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("[0-9a-f]{64}(_[a-z]+)?(\\.[a-z0-9]+)?");
+
+    // 파일 채널로 한 번에 옮길 최대 바이트 수
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path root;
+    private final Executor imageExecutor;
+
+    @Autowired
+    public ImageStorageService(@Value("${upload.path:C:/upload/}") String rootPath,
+                               @Qualifier(AsyncConfig.IMAGE_EXECUTOR) Executor imageExecutor) throws IOException {
+        this.root = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.imageExecutor = imageExecutor;
+        Files.createDirectories(root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 업로드 파일을 내용의 SHA-256 해시를 이름으로 저장하고 화면에서 사용할 URL 을 반환
+     * 같은 내용의 파일이 이미 있으면 새로 저장하지 않고 기존 파일을 함께 사용합니다.
+     * 해시 앞 4글자로 두 단계 하위 폴더를 나눠(ab/cd/abcd...jpg) 폴더 하나의 파일 수를 제한하고,
+     * 임시 파일에 다 쓴 뒤 이름을 바꾸므로 저장 중인 파일이 화면에 노출되지 않습니다.
+     *
+     * @param file 업로드 파일
+     * @return 원본 이미지 URL (예: /upload/ab/cd/abcd....jpg)
+     */
+    public String store(MultipartFile file) throws IOException {
+        String extension = extensionOf(file.getOriginalFilename());
+        MessageDigest digest = sha256();
+
+        Path temp = Files.createTempFile(root, TEMP_PREFIX, ".tmp");
+        try {
+            // 디스크에 쓰는 동안 해시도 함께 계산 (파일을 다시 읽지 않음)
+            try (InputStream input = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel in = Channels.newChannel(input);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/"
+                    + hash + (extension.isEmpty() ? "" : "." + extension);
+            Path target = root.resolve(relative);
+
+            if (Files.exists(target)) {
+                // 중복 업로드: 최근 사용 시각만 갱신하여 정리 작업의 유예 기간 동안 보호
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                log.debug("Duplicate upload reused: {}", relative);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            if (RESIZABLE_EXTENSIONS.contains(extension) && !variantsExist(target)) {
+                createVariantsAsync(target);
+            }
+            return URL_PREFIX + relative;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 내용 해시로 이름 지은 파일(원본 또는 축소본)인지 여부 (이름이 같으면 내용도 같음)
+     */
+    public static boolean isContentAddressed(String fileName) {
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches();
+    }
+
+    /**
+     * 업로드 이미지 URL 을 저장 폴더 안의 파일 경로로 변환 (업로드 이미지가 아니거나 폴더 밖이면 null)
+     */
+    public Path resolve(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        Path path = root.resolve(url.substring(URL_PREFIX.length())).normalize();
+        return path.startsWith(root) && !path.equals(root) ? path : null;
+    }
+
+    /**
+     * 저장 폴더 안의 파일 경로를 화면에서 사용하는 URL 로 변환
+     */
+    public String urlOf(Path path) {
+        return URL_PREFIX + root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * 원본 이미지와 축소본을 모두 삭제
+     *
+     * @param url 원본 이미지 URL
+     * @return 원본 파일이 삭제되었으면 true
+     */
+    public boolean delete(String url) throws IOException {
+        Path original = resolve(url);
+        if (original == null) {
+            return false;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(original.resolveSibling(variant.pathOf(original.getFileName().toString())));
+        }
+        return Files.deleteIfExists(original);
+    }
+
+    private boolean variantsExist(Path original) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(original.resolveSibling(variant.pathOf(original.getFileName().toString())))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 원본 이미지 URL 에 대한 축소본 URL (업로드 이미지가 아니면 그대로 반환)
+     */
+    public static String variantUrl(String url, ImageVariant variant) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return url;
+        }
+        return variant.pathOf(url);
+    }
+
+    CompletableFuture<Void> createVariantsAsync(Path original) {
+        return CompletableFuture.runAsync(() -> createVariants(original), imageExecutor)
+                .exceptionally(ex -> {
+                    log.warn("Thumbnail generation failed for {}", original, ex);
+                    return null;
+                });
+    }
+
+    /**
+     * 축소본을 모두 생성 (원본은 한 번만 디코딩, 원본보다 크게 늘리지는 않음)
+     */
+    void createVariants(Path original) {
+        String format = extensionOf(original.getFileName().toString());
+        try {
+            BufferedImage image = ImageIO.read(original.toFile());
+            if (image == null) {
+                log.warn("Unsupported image, thumbnails skipped: {}", original.getFileName());
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = original.resolveSibling(variant.pathOf(original.getFileName().toString()));
+                // 확장자를 유지해야 Thumbnailator 가 파일명 뒤에 확장자를 덧붙이지 않음
+                Path temp = target.resolveSibling(TEMP_PREFIX + target.getFileName());
+
+                Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image).outputFormat(format);
+                if (image.getWidth() <= variant.getMaxWidth() && image.getHeight() <= variant.getMaxHeight()) {
+                    builder.scale(1.0);
+                } else {
+                    builder.size(variant.getMaxWidth(), variant.getMaxHeight()).keepAspectRatio(true);
+                }
+                if (!"png".equals(format)) {
+                    builder.outputQuality(JPEG_QUALITY);
+                }
+                builder.toFile(temp.toFile());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("썸네일 생성 실패: " + original, ex);
+        }
+        log.debug("Thumbnails created for {}", original.getFileName());
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        // 경로 조작 문자가 섞인 확장자는 사용하지 않음
+        return extension.chars().allMatch(Character::isLetterOrDigit) ? extension : "";
+    }
+}
@@ -0,0 +1,241 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 역색인(inverted index) 기반 매칭방 검색 구현체 (기본값)
+ *
+ * 제목, 설명, 장소, 펫 타입을 n-gram(1글자 + 2글자) 단위로 잘라 색인합니다.
+ * 한글은 띄어쓰기나 조사와 관계없이 부분 문자열로 검색되어야 하므로 형태소 분석 대신 n-gram 을 사용하며,
+ * 검색어의 모든 n-gram 을 포함하는 방만 (LIKE '%q%' 와 유사한 AND 조건) 필드 가중치 x IDF 점수 순으로 반환합니다.
+ *
+ * 색인은 서버 시작 시 DB 에서 한 번 구성하고, 이후 매칭방 생성/수정/삭제 트랜잭션이 커밋된 뒤
+ * MatchingRoomIndexListener 를 통해 갱신됩니다.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(name = "matching.search.engine", havingValue = "inverted-index", matchIfMissing = true)
+public class InvertedIndexRoomSearchService implements RoomSearchService {
+
+    // 필드별 가중치 (제목에서 일치할수록 더 관련도가 높다고 판단)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int PET_TYPE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final RoomSearchDocumentLoader documentLoader;
+
+    // n-gram -> (매칭방 ID -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 매칭방 ID -> (n-gram -> 가중 빈도), 수정/삭제 시 기존 색인 제거용
+    private final Map<Long, Map<String, Integer>> termsByRoom = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public InvertedIndexRoomSearchService(RoomSearchDocumentLoader documentLoader) {
+        this.documentLoader = documentLoader;
+    }
+
+    /**
+     * 서버 시작 시 전체 매칭방으로 색인을 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        List<RoomSearchDocument> documents = documentLoader.loadAll();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByRoom.clear();
+            documents.forEach(this::indexNow);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Room search index built with {} rooms, {} terms", documents.size(), postings.size());
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(queryGrams(query));
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matchedPostings = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return Collections.emptyList(); // 하나라도 없으면 일치하는 방이 없음
+                }
+                matchedPostings.add(posting);
+            }
+
+            // 가장 짧은 posting 을 기준으로 교집합을 구하며 점수 계산
+            matchedPostings.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            int roomCount = termsByRoom.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long roomId : matchedPostings.get(0).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Integer> posting : matchedPostings) {
+                    Integer frequency = posting.get(roomId);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += frequency * Math.log(1.0 + (double) roomCount / posting.size());
+                }
+                if (matchesAll) {
+                    scores.put(roomId, score);
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(RoomSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeNow(document.getRoomId());
+            indexNow(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long roomId) {
+        lock.writeLock().lock();
+        try {
+            removeNow(roomId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --------------------- 내부 헬퍼 메서드 (쓰기 락을 잡은 상태에서 호출) ---------------------
+
+    private void indexNow(RoomSearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, document.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, document.getPlace(), PLACE_WEIGHT);
+        addTerms(terms, document.getDescription(), DESCRIPTION_WEIGHT);
+        if (document.getPetTypes() != null) {
+            for (String petType : document.getPetTypes()) {
+                addTerms(terms, petType, PET_TYPE_WEIGHT);
+            }
+        }
+
+        termsByRoom.put(document.getRoomId(), terms);
+        terms.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, k -> new HashMap<>()).put(document.getRoomId(), frequency));
+    }
+
+    private void removeNow(Long roomId) {
+        Map<String, Integer> terms = termsByRoom.remove(roomId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(roomId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String gram : indexGrams(text)) {
+            terms.merge(gram, weight, Integer::sum);
+        }
+    }
+
+    // --------------------- n-gram 토크나이저 ---------------------
+
+    /**
+     * 색인용 n-gram: 단어마다 모든 1글자 + 연속된 2글자
+     */
+    static List<String> indexGrams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어용 n-gram: 1글자 단어는 그대로, 그 외에는 연속된 2글자
+     */
+    static List<String> queryGrams(String query) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 글자/숫자가 아닌 문자를 경계로 소문자 단어를 분리
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
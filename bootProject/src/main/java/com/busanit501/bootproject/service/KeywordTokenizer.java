@@ -0,0 +1,126 @@
+package com.busanit501.bootproject.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 키워드 집계용 단어 분리기
+ *
+ * 기존의 toLowerCase() -> replaceAll("[^a-z0-9가-힣 ]", "") -> split("\\s+") 과 같은 결과를
+ * 문자열을 한 번만 훑으면서 만듭니다.
+ * - 영문은 소문자로 바꾸고, 영문/숫자/한글 음절(가-힣)만 남기며 그 외 문자는 지웁니다. (앞뒤 글자가 붙음)
+ * - 공백을 기준으로 단어를 나누고, 불용어와 한 글자 단어는 제외합니다.
+ *
+ * 단어는 스레드별로 재사용하는 char 버퍼에 모은 뒤 WordCounter 에 바로 넘기므로,
+ * 이미 집계된 단어는 String 이나 정규식 객체를 만들지 않습니다.
+ */
+@Component
+public class KeywordTokenizer {
+
+    /**
+     * 기본 불용어 (matching.keyword.stopwords 설정이 비어 있을 때, 쉼표로 구분하여 설정)
+     */
+    public static final Set<String> DEFAULT_STOPWORDS = Set.of("the", "and", "is", "at", "which", "on", "a", "an",
+            "을", "를", "에", "의", "는", "이", "가");
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    // 단어를 모으는 스레드별 버퍼 (긴 문자열이 들어오면 그 길이로 늘림)
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[128]);
+
+    private final WordCounter stopwords;
+
+    @Autowired
+    public KeywordTokenizer(@Value("${matching.keyword.stopwords:}") Set<String> stopwords) {
+        Set<String> words = stopwords.isEmpty() ? DEFAULT_STOPWORDS : stopwords;
+        this.stopwords = new WordCounter(words.size());
+        for (String word : words) {
+            this.stopwords.add(word.trim().toLowerCase(), 1);
+        }
+    }
+
+    /**
+     * 단어 처리 콜백 (buffer 의 앞 length 글자가 한 단어이며, 호출이 끝나면 버퍼가 재사용됨)
+     */
+    @FunctionalInterface
+    public interface WordSink {
+        void accept(char[] buffer, int length);
+    }
+
+    /**
+     * 텍스트의 집계 대상 단어마다 counter 빈도에 delta 를 더함
+     */
+    public void count(String text, WordCounter counter, long delta) {
+        scan(text, (buffer, length) -> counter.add(buffer, length, delta));
+    }
+
+    /**
+     * 텍스트의 집계 대상 단어 목록
+     */
+    public List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        scan(text, (buffer, length) -> words.add(new String(buffer, 0, length)));
+        return words;
+    }
+
+    /**
+     * 텍스트를 한 번 훑으면서 집계 대상 단어를 sink 에 전달
+     */
+    public void scan(String text, WordSink sink) {
+        if (text == null) {
+            return;
+        }
+        int textLength = text.length();
+        char[] buffer = BUFFER.get();
+        if (buffer.length < textLength) {
+            buffer = new char[textLength];
+            BUFFER.set(buffer);
+        }
+
+        int length = 0;
+        for (int i = 0; i < textLength; i++) {
+            char c = normalize(text.charAt(i));
+            if (c == ' ') {
+                emit(buffer, length, sink);
+                length = 0;
+            } else if (c != 0) {
+                buffer[length++] = c;
+            }
+        }
+        emit(buffer, length, sink);
+    }
+
+    private void emit(char[] buffer, int length, WordSink sink) {
+        // 불용어 및 한 글자 단어 제외
+        if (length > 1 && !stopwords.contains(buffer, length)) {
+            sink.accept(buffer, length);
+        }
+    }
+
+    /**
+     * 남길 문자는 (소문자로 바꾼) 문자 자체를, 공백은 ' ' 를, 지울 문자는 0 을 반환
+     */
+    private static char normalize(char c) {
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == ' ') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+            return c;
+        }
+        if (c < 128) {
+            return 0;
+        }
+        // 켈빈 기호(K)처럼 소문자로 바꾸면 영문이 되는 드문 문자
+        char lower = Character.toLowerCase(c);
+        return lower >= 'a' && lower <= 'z' ? lower : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 LIKE 검색 쿼리(searchRoomsByQuery)를 그대로 사용하는 검색 구현체
+ * 별도 색인이 없으므로 index/remove 는 아무 작업도 하지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(name = "matching.search.engine", havingValue = "like")
+public class LikeQueryRoomSearchService implements RoomSearchService {
+
+    private final MatchingRoomRepository roomRepository;
+
+    @Autowired
+    public LikeQueryRoomSearchService(MatchingRoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        return roomRepository.searchRoomsByQuery(query).stream()
+                .map(MatchingRoom::getRoomId)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void index(RoomSearchDocument document) {
+    }
+
+    @Override
+    public void remove(Long roomId) {
+    }
+}
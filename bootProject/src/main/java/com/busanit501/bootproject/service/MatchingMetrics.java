@@ -0,0 +1,102 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매칭 업무 지표 (/actuator/prometheus)
+ * - matching.applications, matching.acceptances, matching.rejections: 성공한 참가 신청/승인/거절 수
+ * - matching.capacity.rejections: 인원 초과로 거부된 신청/승인 수 (operation 태그: apply, accept)
+ * - matching.rooms.open, matching.applications.pending: 모집 중인 매칭방 수, 대기 중인 참가 신청 수
+ *
+ * 게이지는 수집(scrape)할 때마다 DB 를 조회하지 않도록 gauge-refresh-interval 마다 한 번 집계해 둔 값을 보여줍니다.
+ * DB 전체 기준 값이므로 여러 노드에서 같은 값을 보고합니다.
+ */
+@Log4j2
+@Service
+public class MatchingMetrics {
+
+    private final MatchingRoomRepository roomRepository;
+
+    private final Counter applications;
+    private final Counter acceptances;
+    private final Counter rejections;
+    private final Counter applyCapacityRejections;
+    private final Counter acceptCapacityRejections;
+
+    private final AtomicLong openRooms = new AtomicLong();
+    private final AtomicLong pendingApplications = new AtomicLong();
+
+    @Autowired
+    public MatchingMetrics(MatchingRoomRepository roomRepository, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        this.applications = Counter.builder("matching.applications")
+                .description("참가 신청 수")
+                .register(meterRegistry);
+        this.acceptances = Counter.builder("matching.acceptances")
+                .description("참가 승인 수")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("matching.rejections")
+                .description("참가 거절 수")
+                .register(meterRegistry);
+        this.applyCapacityRejections = capacityRejections(meterRegistry, "apply");
+        this.acceptCapacityRejections = capacityRejections(meterRegistry, "accept");
+        Gauge.builder("matching.rooms.open", openRooms, AtomicLong::get)
+                .description("모집 중인 매칭방 수")
+                .register(meterRegistry);
+        Gauge.builder("matching.applications.pending", pendingApplications, AtomicLong::get)
+                .description("대기 중인 참가 신청 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter capacityRejections(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("matching.capacity.rejections")
+                .description("인원 초과로 거부된 요청 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public void applied() {
+        applications.increment();
+    }
+
+    public void accepted() {
+        acceptances.increment();
+    }
+
+    public void rejected() {
+        rejections.increment();
+    }
+
+    public void applyCapacityExceeded() {
+        applyCapacityRejections.increment();
+    }
+
+    public void acceptCapacityExceeded() {
+        acceptCapacityRejections.increment();
+    }
+
+    /**
+     * 모집 중인 매칭방 수, 대기 신청 수 다시 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${matching.metrics.gauge-refresh-interval:60000}")
+    public void refreshGauges() {
+        LocalDate today = LocalDate.now();
+        openRooms.set(roomRepository.countOpenRooms(today));
+        pendingApplications.set(roomRepository.sumPendingUserCount(today));
+        log.debug("Matching gauges refreshed: {} open rooms, {} pending applications",
+                openRooms.get(), pendingApplications.get());
+    }
+}
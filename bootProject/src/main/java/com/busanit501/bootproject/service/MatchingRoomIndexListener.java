@@ -0,0 +1,39 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.event.MatchingRoomChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매칭방 변경 이벤트를 받아 메모리에 유지하는 검색 색인과 인기 키워드 집계를 갱신
+ * 트랜잭션이 커밋된 뒤에만 실행되므로 롤백된 변경은 반영되지 않습니다.
+ * (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+ */
+@Log4j2
+@Component
+public class MatchingRoomIndexListener {
+
+    private final RoomSearchService roomSearchService;
+    private final TopKeywordService topKeywordService;
+
+    @Autowired
+    public MatchingRoomIndexListener(RoomSearchService roomSearchService,
+                                     TopKeywordService topKeywordService) {
+        this.roomSearchService = roomSearchService;
+        this.topKeywordService = topKeywordService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(MatchingRoomChangedEvent event) {
+        log.debug("Matching room changed: {}", event);
+        if (event.isDeleted()) {
+            roomSearchService.remove(event.getRoomId());
+            topKeywordService.remove(event.getRoomId());
+        } else {
+            roomSearchService.index(event.getDocument());
+            topKeywordService.update(event.getDocument());
+        }
+    }
+}
@@ -5,123 +5,220 @@ import com.busanit501.bootproject.domain.Pet;
 import com.busanit501.bootproject.domain.RoomParticipant;
 import com.busanit501.bootproject.domain.User;
 import com.busanit501.bootproject.dto.MatchingRoomDTO;
+import com.busanit501.bootproject.dto.MatchingRoomPageDTO;
 import com.busanit501.bootproject.dto.PetDTO;
+import com.busanit501.bootproject.dto.RoomDetailView;
 import com.busanit501.bootproject.dto.MatchingUserDTO;
+import com.busanit501.bootproject.event.ImageReleasedEvent;
+import com.busanit501.bootproject.event.MatchingRoomChangedEvent;
+import com.busanit501.bootproject.event.RoomParticipantsChangedEvent;
+import com.busanit501.bootproject.event.ScheduleConfirmedEvent;
 import com.busanit501.bootproject.exception.ResourceNotFoundException;
 import com.busanit501.bootproject.repository.MatchingRoomRepository;
 import com.busanit501.bootproject.repository.PetRepository;
 import com.busanit501.bootproject.repository.RoomParticipantRepository;
 import com.busanit501.bootproject.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 매칭방 생성/조회/참가 처리 서비스
+ * 모든 public 메서드의 실행 시간은 matching.service 타이머로 메서드별(method 태그) 기록되고,
+ * 참가 신청/승인/거절 결과는 MatchingMetrics 의 업무 지표로 기록됩니다.
+ * 조회 메서드는 readOnly 트랜잭션이므로 복제 DB 가 설정되어 있으면 복제 DB 에서 읽습니다. (DataSourceConfig)
+ * open-in-view 를 사용하지 않으므로 화면에 필요한 연관 엔티티는 모두 이 서비스의 트랜잭션 안에서 읽어 반환합니다.
+ * (readOnly 트랜잭션은 하이버네이트 flush 와 변경 감지용 스냅샷을 생략)
+ */
 @Log4j2
 @Service
+@Timed(value = "matching.service", histogram = true)
 public class MatchingService {
 
     private final MatchingRoomRepository roomRepository;
     private final RoomParticipantRepository participantRepository;
     private final PetRepository petRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RoomSearchService roomSearchService;
+    private final TopKeywordService topKeywordService;
+    private final RoomSearchDocumentLoader documentLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchingMetrics matchingMetrics;
+
+    // 참가 상태 변경 시 락 경합이 발생하면 다시 시도할 최대 횟수
+    private static final int MAX_LOCK_RETRIES = 3;
+    // 검색 결과로 보여줄 최대 매칭방 수
+    private static final int SEARCH_RESULT_LIMIT = 50;
 
     @Autowired
     public MatchingService(MatchingRoomRepository roomRepository,
                            RoomParticipantRepository participantRepository,
                            PetRepository petRepository,
-                           UserRepository userRepository) {
+                           UserRepository userRepository,
+                           PlatformTransactionManager transactionManager,
+                           RoomSearchService roomSearchService,
+                           TopKeywordService topKeywordService,
+                           RoomSearchDocumentLoader documentLoader,
+                           ApplicationEventPublisher eventPublisher,
+                           MatchingMetrics matchingMetrics) {
         this.roomRepository = roomRepository;
         this.participantRepository = participantRepository;
         this.petRepository = petRepository;
         this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.roomSearchService = roomSearchService;
+        this.topKeywordService = topKeywordService;
+        this.documentLoader = documentLoader;
+        this.eventPublisher = eventPublisher;
+        this.matchingMetrics = matchingMetrics;
     }
 
-    public List<MatchingRoomDTO> getAllRooms() {
-        List<MatchingRoom> rooms = roomRepository.findAll();
+    /**
+     * 매칭방 목록을 키셋(커서) 방식으로 한 페이지씩 반환
+     * 전체 테이블을 읽어 메모리에서 뒤집는 대신, room_id 내림차순으로 size + 1 건만 조회하여
+     * 다음 페이지 존재 여부까지 함께 판단합니다.
+     *
+     * @param cursor 직전 페이지의 마지막 room_id (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 매칭방 페이지
+     */
+    @Transactional(readOnly = true)
+    public MatchingRoomPageDTO getRoomsPage(Long cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MatchingRoom> rooms = (cursor == null)
+                ? roomRepository.findLatestRooms(limit)
+                : roomRepository.findRoomsBefore(cursor, limit);
+
+        boolean hasNext = rooms.size() > size;
+        if (hasNext) {
+            rooms = rooms.subList(0, size);
+        }
 
-        // 원본 리스트를 복사하여 역순으로 정렬
-        List<MatchingRoom> reversedRooms = new ArrayList<>(rooms);
-        Collections.reverse(reversedRooms);
+        List<MatchingRoomDTO> dtoList = convertToDtos(rooms);
+        Long nextCursor = hasNext ? rooms.get(rooms.size() - 1).getRoomId() : null;
 
-        // 역순 정렬된 리스트를 DTO로 변환 후 반환
-        return reversedRooms.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return new MatchingRoomPageDTO(dtoList, nextCursor, hasNext);
     }
 
+    @Transactional(readOnly = true)
     public MatchingRoom getRoomById(Long roomId) {
         return roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("매칭방을 찾을 수 없습니다. ID: " + roomId));
     }
 
     /**
-     * 검색어를 포함한 매칭방 리스트 반환
-     * 검색 범위: 제목, 장소, 펫 타입
+     * 수정 화면용 매칭방 DTO (호스트, 참가자 펫 정보 포함)
      */
-    public List<MatchingRoomDTO> getRoomsByQuery(String query) {
-        // 검색된 MatchingRoom 엔티티 리스트를 가져옴
-        List<MatchingRoom> rooms = roomRepository.searchRoomsByQuery(query);
-
-        // 각 엔티티를 DTO로 변환
-        return rooms.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public MatchingRoomDTO getRoomDto(Long roomId) {
+        return convertToDto(getRoomById(roomId));
     }
 
     /**
-     * 상위 5개의 키워드 추출 (제목, 장소, 펫 타입에서)
+     * 로그인 사용자가 매칭방의 방장인지 여부
      */
-    public List<String> getTopKeywords(int limit) {
-        List<String> titles = roomRepository.findAllTitles();
-        List<String> places = roomRepository.findAllPlaces();
-        List<String> petTypes = roomRepository.findAllPetTypes();
+    @Transactional(readOnly = true)
+    public boolean isHost(Long roomId, Long userId) {
+        return getRoomById(roomId).getUser().getUserId().equals(userId);
+    }
 
-        Map<String, Long> wordCount = new HashMap<>();
+    /**
+     * 검색어를 포함한 매칭방 리스트 반환
+     * 검색 범위: 제목, 설명, 장소, 펫 타입 (RoomSearchService 가 관련도 순으로 ID 를 반환)
+     */
+    @Transactional(readOnly = true)
+    public List<MatchingRoomDTO> getRoomsByQuery(String query) {
+        List<Long> rankedIds = roomSearchService.search(query, SEARCH_RESULT_LIMIT);
+        if (rankedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // 불용어(stopwords) 정의 (필요에 따라 추가/수정)
-        Set<String> stopwords = Set.of("the", "and", "is", "at", "which", "on", "a", "an",
-                "을", "를", "에", "의", "는", "이", "가");
+        // 검색된 ID 로 매칭방을 한 번에 조회한 뒤 관련도 순서대로 정렬
+        Map<Long, MatchingRoom> roomsById = roomRepository.findAllWithUserByRoomIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(MatchingRoom::getRoomId, room -> room));
+        List<MatchingRoom> rooms = rankedIds.stream()
+                .map(roomsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
-        // 제목에서 단어 추출
-        extractWords(titles, wordCount, stopwords);
+        // 참가자를 한 번에 조회하여 DTO로 변환
+        return convertToDtos(rooms);
+    }
 
-        // 장소에서 단어 추출
-        extractWords(places, wordCount, stopwords);
+    /**
+     * 상세 화면에 필요한 데이터를 고정된 수의 쿼리로 조회
+     * 매칭방 + 호스트 + 참가자(사용자, 펫)를 한 번에 읽고 대기/승인 구분, 신청 여부 확인은 메모리에서 처리합니다.
+     * 방장이 아니면 신청 모달용으로 로그인 사용자의 펫 목록을 추가로 조회합니다. (쿼리 캐시 대상)
+     *
+     * @param roomId    매칭방 ID
+     * @param loginUserId 로그인 사용자 ID
+     * @return 상세 화면 모델
+     */
+    @Transactional(readOnly = true)
+    public RoomDetailView getRoomDetail(Long roomId, Long loginUserId) {
+        MatchingRoom room = roomRepository.findDetailById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("매칭방을 찾을 수 없습니다. ID: " + roomId));
+        List<RoomParticipant> participants = room.getParticipants();
 
-        // 펫 타입에서 단어 추출
-        extractWords(petTypes, wordCount, stopwords);
+        Map<User, List<Pet>> pendingMap = new LinkedHashMap<>();
+        Map<User, List<Pet>> acceptedMap = new LinkedHashMap<>();
+        List<RoomParticipant> pending = new ArrayList<>();
+        List<RoomParticipant> accepted = new ArrayList<>();
+        boolean applied = false;
+        for (RoomParticipant rp : participants) {
+            if (rp.getStatus() == RoomParticipant.ParticipantStatus.Rejected) {
+                continue;
+            }
+            boolean isPending = rp.getStatus() == RoomParticipant.ParticipantStatus.Pending;
+            (isPending ? pending : accepted).add(rp);
+            (isPending ? pendingMap : acceptedMap)
+                    .computeIfAbsent(rp.getUser(), k -> new ArrayList<>())
+                    .add(rp.getPet());
+            // 대기 또는 승인 상태로 참가 중이면 이미 신청한 것으로 판단 (hasUserApplied 와 동일)
+            if (rp.getUser().getUserId().equals(loginUserId)) {
+                applied = true;
+            }
+        }
 
-        // 빈도수 기준 내림차순 정렬 후 상위 'limit' 단어 반환
-        return wordCount.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
-                .limit(limit)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        boolean host = room.getUser().getUserId().equals(loginUserId);
+        return RoomDetailView.builder()
+                .room(assembleDto(room, participants))
+                .pendingMap(pendingMap)
+                .acceptedMap(acceptedMap)
+                .pendingParticipants(pending)
+                .acceptedParticipants(accepted)
+                .host(host)
+                .applied(applied)
+                .userPets(host ? null : petRepository.findAllByUser_UserId(loginUserId))
+                .build();
     }
 
     /**
-     * 단어 추출 및 빈도수 계산 메서드
+     * 상위 키워드 추출 (제목, 장소, 펫 타입에서)
+     * 매칭방 변경 시 갱신되는 집계(TopKeywordService)를 사용하므로 DB 를 조회하지 않습니다.
      */
-    private void extractWords(List<String> sources, Map<String, Long> wordCount, Set<String> stopwords) {
-        for (String text : sources) {
-            if (text != null) {
-                // 소문자 변환, 특수문자 제거, 공백 기준 분리
-                String[] words = text.toLowerCase().replaceAll("[^a-z0-9가-힣 ]", "").split("\\s+");
-                for (String word : words) {
-                    if (!stopwords.contains(word) && word.length() > 1) { // 불용어 및 한 글자 단어 제외
-                        wordCount.put(word, wordCount.getOrDefault(word, 0L) + 1);
-                    }
-                }
-            }
-        }
+    public List<String> getTopKeywords(int limit) {
+        return topKeywordService.getTopKeywords(limit);
     }
 
     @Transactional
-    public void createRoom(MatchingRoomDTO dto, User user) {
+    public Long createRoom(MatchingRoomDTO dto, Long userId) {
+        // 호스트는 외래 키로만 사용하므로 조회 없이 참조만 가져옴
+        User user = userRepository.getReferenceById(userId);
+
         // 새 매칭방 생성
         MatchingRoom room = new MatchingRoom();
         room.setUser(user);
@@ -134,28 +231,28 @@ public class MatchingService {
 
         room.setProfilePicture(dto.getProfilePicture());
 
+        // 호스트 펫들 조회 (호스트는 승인된 참가자 1명으로 집계)
+        List<Pet> pets = petRepository.findAllById(dto.getPetIds());
+        room.setAcceptedUserCount(pets.isEmpty() ? 0L : 1L);
+
         MatchingRoom savedRoom = roomRepository.save(room);
 
-        // 호스트 펫들 등록
-        List<Pet> pets = petRepository.findAllById(dto.getPetIds());
-        for (Pet pet : pets) {
-            RoomParticipant participant = new RoomParticipant();
-            participant.setMatchingRoom(savedRoom);
-            participant.setUser(user);
-            participant.setPet(pet);
-            participant.setStatus(RoomParticipant.ParticipantStatus.Accepted);
-            participantRepository.save(participant);
-        }
+        // 호스트 펫들 등록 (펫 수와 관계없이 배치 INSERT 한 번)
+        participantRepository.insertAll(
+                newParticipants(savedRoom, user, pets, RoomParticipant.ParticipantStatus.Accepted));
+        publishRoomSaved(savedRoom);
+        return savedRoom.getRoomId();
     }
 
     @Transactional
-    public void updateRoom(Long roomId, MatchingRoomDTO dto, User user) {
+    public void updateRoom(Long roomId, MatchingRoomDTO dto, Long userId) {
         MatchingRoom room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("매칭방을 찾을 수 없습니다."));
 
-        if (!room.getUser().getUserId().equals(user.getUserId())) {
+        if (!room.getUser().getUserId().equals(userId)) {
             throw new RuntimeException("방장만 수정할 수 있습니다.");
         }
+        User user = room.getUser();
 
         // 기본 정보 갱신
         room.setTitle(dto.getTitle());
@@ -165,21 +262,29 @@ public class MatchingService {
         room.setMeetingTime(dto.getMeetingTime());
         room.setMaxParticipants(dto.getMaxParticipants());
 
-        room.setProfilePicture(dto.getProfilePicture());
+        // 새 이미지를 올린 경우만 교체 (이전 이미지는 커밋 후 참조가 없으면 삭제)
+        String previousPicture = room.getProfilePicture();
+        if (dto.getProfilePicture() != null && !dto.getProfilePicture().equals(previousPicture)) {
+            room.setProfilePicture(dto.getProfilePicture());
+            publishImageReleased(previousPicture);
+        }
         roomRepository.save(room);
         // 호스트의 펫 참가 정보 다시 세팅(기존 호스트 펫 정보는 모두 삭제 후 새로 등록)
         List<RoomParticipant> existingParticipants = participantRepository.findAllByMatchingRoomAndUser(room, user);
         participantRepository.deleteAll(existingParticipants);
+        // (방, 사용자, 펫) 유니크 제약이 있으므로 같은 펫을 다시 등록하기 전에 삭제를 먼저 반영
+        participantRepository.flush();
 
         List<Pet> pets = petRepository.findAllById(dto.getPetIds());
-        for (Pet pet : pets) {
-            RoomParticipant participant = new RoomParticipant();
-            participant.setMatchingRoom(room);
-            participant.setUser(user);
-            participant.setPet(pet);
-            participant.setStatus(RoomParticipant.ParticipantStatus.Accepted);
-            participantRepository.save(participant);
+        participantRepository.insertAll(
+                newParticipants(room, user, pets, RoomParticipant.ParticipantStatus.Accepted));
+
+        // 호스트는 펫이 있을 때만 승인 인원 1명으로 집계 (createRoom 과 동일) - 펫 유무가 바뀌면 카운터도 보정
+        long hostDelta = (pets.isEmpty() ? 0 : 1) - (existingParticipants.isEmpty() ? 0 : 1);
+        if (hostDelta != 0) {
+            roomRepository.adjustParticipantCounts(roomId, hostDelta, 0);
         }
+        publishRoomSaved(room);
         // 수정된 room은 트랜잭션 종료 시점에 자동으로 DB 반영
     }
 
@@ -193,8 +298,58 @@ public class MatchingService {
 
         // 매칭방 삭제
         roomRepository.delete(room);
+        eventPublisher.publishEvent(MatchingRoomChangedEvent.deleted(roomId));
+        publishImageReleased(room.getProfilePicture());
+    }
+
+    /**
+     * 한 사용자의 펫마다 같은 상태의 참가 정보 생성 (insertAll 로 한 번에 저장)
+     */
+    private List<RoomParticipant> newParticipants(MatchingRoom room, User user, List<Pet> pets,
+                                                  RoomParticipant.ParticipantStatus status) {
+        List<RoomParticipant> participants = new ArrayList<>(pets.size());
+        for (Pet pet : pets) {
+            RoomParticipant participant = new RoomParticipant();
+            participant.setMatchingRoom(room);
+            participant.setUser(user);
+            participant.setPet(pet);
+            participant.setStatus(status);
+            participants.add(participant);
+        }
+        return participants;
+    }
+
+    /**
+     * 매칭방 변경 이벤트 발행 (커밋 후 검색 색인, 인기 키워드 집계에 반영됨)
+     */
+    private void publishRoomSaved(MatchingRoom room) {
+        eventPublisher.publishEvent(MatchingRoomChangedEvent.saved(documentLoader.load(room)));
+    }
+
+    /**
+     * 업로드 이미지 참조 해제 이벤트 발행 (커밋 후 남은 참조가 없으면 파일 삭제)
+     */
+    private void publishImageReleased(String url) {
+        if (url != null) {
+            eventPublisher.publishEvent(new ImageReleasedEvent(url));
+        }
+    }
+
+    /**
+     * 매칭방 일정 확정 (방장만 가능)
+     * 확정 이벤트만 발행하고, 방장과 승인된 참가자의 캘린더 일정은 커밋 후 ScheduleConfirmedListener 가 비동기로 생성합니다.
+     * 따라서 참가자 수와 관계없이 매칭방 조회 한 번으로 끝납니다.
+     */
+    @Transactional
+    public void confirmSchedule(Long roomId, Long userId) {
+        MatchingRoom room = getRoomById(roomId);
+        if (!room.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("방장만 일정을 확정할 수 있습니다.");
+        }
+        eventPublisher.publishEvent(new ScheduleConfirmedEvent(room.getRoomId(), userId));
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAcceptedParticipantsByRoomId(Long roomId) {
         List<RoomParticipant> participants = participantRepository.findAllByMatchingRoom_RoomIdAndStatus(
                 roomId, RoomParticipant.ParticipantStatus.Accepted);
@@ -205,14 +360,26 @@ public class MatchingService {
     }
 
     // 참가 신청
-    @Transactional
     public void applyRoom(Long roomId, Long userId, List<Long> petIds) {
+        executeWithLockRetry(() -> doApplyRoom(roomId, userId, petIds));
+        matchingMetrics.applied();
+    }
+
+    private void doApplyRoom(Long roomId, Long userId, List<Long> petIds) {
         log.info("Applying for roomId: {}, userId: {}, petIds: {}", roomId, userId, petIds);
 
         if (petIds == null || petIds.isEmpty()) {
             throw new RuntimeException("적어도 하나의 반려동물을 선택해야 합니다.");
         }
 
+        // 대기 인원을 먼저 1 늘려 매칭방 행을 잠금 (트랜잭션의 첫 문장)
+        // 같은 방의 신청은 커밋될 때까지 여기서 차례로 기다리므로, 아래의 중복 신청 확인이
+        // 먼저 커밋된 신청(펫 구성이 달라 유니크 제약에 걸리지 않는 경우 포함)을 항상 보게 됨
+        // 신청이 실패하면 트랜잭션 롤백으로 함께 취소됨
+        if (roomRepository.adjustParticipantCounts(roomId, 0, 1) == 0) {
+            throw new ResourceNotFoundException("매칭방을 찾을 수 없습니다. ID: " + roomId);
+        }
+
         MatchingRoom room = getRoomById(roomId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
@@ -230,28 +397,34 @@ public class MatchingService {
         }
 
         // 최대 인원 확인 (호스트 포함)
-        long acceptedParticipants = participantRepository.countDistinctUserByMatchingRoomAndStatus(
-                room, RoomParticipant.ParticipantStatus.Accepted);
+        long acceptedParticipants = room.getAcceptedUserCount();
         log.info("Current accepted participants: {}, Max participants: {}", acceptedParticipants, room.getMaxParticipants());
         if (acceptedParticipants + 1 > room.getMaxParticipants()) {
+            matchingMetrics.applyCapacityExceeded();
             throw new RuntimeException("참가 인원이 초과되었습니다.");
         }
 
         // Pending 상태로 참가 신청
-        for (Pet pet : userPets) {
-            RoomParticipant participant = new RoomParticipant();
-            participant.setMatchingRoom(room);
-            participant.setUser(user);
-            participant.setPet(pet);
-            participant.setStatus(RoomParticipant.ParticipantStatus.Pending);
-            participantRepository.save(participant);
-            log.info("Saved RoomParticipant: {}", participant);
+        // 동시에 같은 신청이 들어오면 (방, 사용자, 펫) 유니크 제약이 중복 저장을 막음
+        try {
+            participantRepository.insertAll(
+                    newParticipants(room, user, userPets, RoomParticipant.ParticipantStatus.Pending));
+            log.info("Saved {} RoomParticipant rows for roomId: {}", userPets.size(), roomId);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 참가 신청을 했습니다.");
         }
+        // 신청자의 펫 타입도 검색, 키워드 집계 대상이므로 다시 반영
+        publishRoomSaved(room);
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(roomId));
     }
 
     // 참가자 승인
-    @Transactional
     public void acceptParticipant(Long roomId, Long userId) {
+        executeWithLockRetry(() -> doAcceptParticipant(roomId, userId));
+        matchingMetrics.accepted();
+    }
+
+    private void doAcceptParticipant(Long roomId, Long userId) {
         MatchingRoom room = getRoomById(roomId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
@@ -261,24 +434,41 @@ public class MatchingService {
             throw new ResourceNotFoundException("참가 신청을 찾을 수 없습니다.");
         }
 
-        long acceptedParticipants =
-                participantRepository.countDistinctUserByMatchingRoomAndStatus(room, RoomParticipant.ParticipantStatus.Accepted);
-        if (acceptedParticipants + 1 > room.getMaxParticipants()) {
+        RoomParticipant.ParticipantStatus previousStatus = participants.get(0).getStatus();
+        if (previousStatus == RoomParticipant.ParticipantStatus.Accepted) {
+            throw new RuntimeException("이미 승인된 참가 신청입니다.");
+        }
+
+        // 빠른 실패용 사전 확인 (정확한 판정은 아래의 조건부 UPDATE 가 담당)
+        if (room.getAcceptedUserCount() + 1 > room.getMaxParticipants()) {
+            matchingMetrics.acceptCapacityExceeded();
             throw new RuntimeException("최대 참가 인원을 초과하여 승인할 수 없습니다.");
         }
 
-        for (RoomParticipant participant : participants) {
-            if (participant.getStatus() == RoomParticipant.ParticipantStatus.Accepted) {
-                throw new RuntimeException("이미 승인된 참가 신청입니다.");
-            }
-            participant.setStatus(RoomParticipant.ParticipantStatus.Accepted);
-            participantRepository.save(participant);
+        // 1) 상태 전환: 조회한 상태 그대로일 때만 변경 (동시 승인/거절이 먼저 끝났다면 0건)
+        int changed = participantRepository.changeStatus(
+                roomId, userId, previousStatus, RoomParticipant.ParticipantStatus.Accepted);
+        if (changed == 0) {
+            throw new RuntimeException("이미 처리된 참가 신청입니다.");
+        }
+
+        // 2) 좌석 예약: accepted_user_count < max_participants 인 경우에만 1 증가
+        //    실패하면 예외로 트랜잭션 전체(상태 전환 포함)가 롤백됨
+        long pendingDelta = previousStatus == RoomParticipant.ParticipantStatus.Pending ? 1 : 0;
+        if (roomRepository.reserveAcceptedSeat(roomId, pendingDelta) == 0) {
+            matchingMetrics.acceptCapacityExceeded();
+            throw new RuntimeException("최대 참가 인원을 초과하여 승인할 수 없습니다.");
         }
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(roomId));
     }
 
     // 참가자 거절
-    @Transactional
     public void rejectParticipant(Long roomId, Long userId) {
+        executeWithLockRetry(() -> doRejectParticipant(roomId, userId));
+        matchingMetrics.rejected();
+    }
+
+    private void doRejectParticipant(Long roomId, Long userId) {
         MatchingRoom room = getRoomById(roomId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
@@ -288,19 +478,98 @@ public class MatchingService {
             throw new ResourceNotFoundException("참가 신청을 찾을 수 없습니다.");
         }
 
-        for (RoomParticipant participant : participants) {
-            if (participant.getStatus() == RoomParticipant.ParticipantStatus.Rejected) {
-                throw new RuntimeException("이미 거절된 참가 신청입니다.");
+        RoomParticipant.ParticipantStatus previousStatus = participants.get(0).getStatus();
+        if (previousStatus == RoomParticipant.ParticipantStatus.Rejected) {
+            throw new RuntimeException("이미 거절된 참가 신청입니다.");
+        }
+
+        int changed = participantRepository.changeStatus(
+                roomId, userId, previousStatus, RoomParticipant.ParticipantStatus.Rejected);
+        if (changed == 0) {
+            throw new RuntimeException("이미 처리된 참가 신청입니다.");
+        }
+        changeParticipantCount(room, previousStatus, RoomParticipant.ParticipantStatus.Rejected);
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(roomId));
+    }
+
+    /**
+     * 참가 상태를 바꾸는 작업을 트랜잭션으로 실행하고, 락 경합(데드락, 락 대기 시간 초과)으로
+     * 실패하면 최대 MAX_LOCK_RETRIES 회까지 새 트랜잭션으로 다시 시도합니다.
+     * 재시도가 트랜잭션 바깥에서 이루어져야 하므로 @Transactional 대신 TransactionTemplate 을 사용합니다.
+     */
+    private void executeWithLockRetry(Runnable action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.run());
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LOCK_RETRIES) {
+                    throw e;
+                }
+                log.warn("Lock conflict on participant update, retrying ({}/{})", attempt, MAX_LOCK_RETRIES);
             }
-            participant.setStatus(RoomParticipant.ParticipantStatus.Rejected);
-            participantRepository.save(participant);
         }
     }
 
+    /**
+     * 한 사용자의 참가 상태가 from -> to 로 바뀔 때 매칭방의 승인/대기 인원 카운터를 같은 트랜잭션에서 갱신
+     *
+     * @param room 매칭방
+     * @param from 이전 상태 (신규 신청이면 null)
+     * @param to   변경된 상태
+     */
+    private void changeParticipantCount(MatchingRoom room,
+                                        RoomParticipant.ParticipantStatus from,
+                                        RoomParticipant.ParticipantStatus to) {
+        long acceptedDelta = countDelta(RoomParticipant.ParticipantStatus.Accepted, from, to);
+        long pendingDelta = countDelta(RoomParticipant.ParticipantStatus.Pending, from, to);
+        if (acceptedDelta != 0 || pendingDelta != 0) {
+            roomRepository.adjustParticipantCounts(room.getRoomId(), acceptedDelta, pendingDelta);
+        }
+    }
+
+    private long countDelta(RoomParticipant.ParticipantStatus counted,
+                            RoomParticipant.ParticipantStatus from,
+                            RoomParticipant.ParticipantStatus to) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
     /**
      * MatchingRoom -> MatchingRoomDTO 변환
      */
+    @Transactional(readOnly = true)
     public MatchingRoomDTO convertToDto(MatchingRoom room) {
+        return convertToDtos(List.of(room)).get(0);
+    }
+
+    /**
+     * MatchingRoom 목록 -> MatchingRoomDTO 목록 변환
+     * 방 개수와 관계없이 참가자(펫, 사용자 포함)를 한 번의 쿼리로 가져와 방별로 묶은 뒤 조립합니다.
+     * 호스트(room.user)는 목록 조회 쿼리에서 fetch join 된 상태를 전제로 합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MatchingRoomDTO> convertToDtos(List<MatchingRoom> rooms) {
+        if (rooms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> roomIds = rooms.stream()
+                .map(MatchingRoom::getRoomId)
+                .collect(Collectors.toList());
+        Map<Long, List<RoomParticipant>> participantsByRoom = participantRepository
+                .findAllWithPetAndUserByRoomIds(roomIds).stream()
+                .collect(Collectors.groupingBy(rp -> rp.getMatchingRoom().getRoomId()));
+
+        return rooms.stream()
+                .map(room -> assembleDto(room,
+                        participantsByRoom.getOrDefault(room.getRoomId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이미 조회된 참가자 목록으로 MatchingRoomDTO 를 조립 (DB 접근 없음)
+     */
+    public MatchingRoomDTO assembleDto(MatchingRoom room, List<RoomParticipant> participants) {
         MatchingRoomDTO dto = new MatchingRoomDTO();
         dto.setRoomId(room.getRoomId());
         dto.setTitle(room.getTitle());
@@ -312,14 +581,14 @@ public class MatchingService {
         dto.setProfilePicture(room.getProfilePicture());
 
         // 호스트 펫 ID 리스트 추가
-        List<Long> petIds = room.getParticipants().stream()
+        List<Long> petIds = participants.stream()
                 .filter(p -> p.getUser().getUserId().equals(room.getUser().getUserId()))
                 .map(p -> p.getPet().getPetId())
                 .collect(Collectors.toList());
         dto.setPetIds(petIds);
 
         // 참여자 펫 정보 리스트 추가
-        List<PetDTO> pets = room.getParticipants().stream()
+        List<PetDTO> pets = participants.stream()
                 .map(participant -> {
                     PetDTO petDTO = new PetDTO();
                     petDTO.setPetId(participant.getPet().getPetId());
@@ -342,11 +611,8 @@ public class MatchingService {
         dto.setPetType(petTypes);
 
 
-        // 현재 참가 인원 수 계산 및 설정
-        long currentParticipants = room.getParticipants().stream()
-                .filter(p -> p.getStatus() == RoomParticipant.ParticipantStatus.Accepted)
-                .count();
-        dto.setCurrentParticipants(currentParticipants);
+        // 현재 참가 인원 수 (미리 집계된 카운터 사용)
+        dto.setCurrentParticipants(room.getAcceptedUserCount());
 
         // 호스트 정보 설정
         dto.setUser(convertUserToDto(room.getUser())); // 변경된 부분
@@ -384,6 +650,7 @@ public class MatchingService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<RoomParticipant> getParticipantsByRoomId(Long roomId) {
         MatchingRoom room = getRoomById(roomId);
         return participantRepository.findAllByMatchingRoom_RoomId(roomId);
@@ -393,6 +660,7 @@ public class MatchingService {
      * 1) 특정 매칭방 ID에 대해,
      * 상태가 Accepted인 RoomParticipant 목록을 반환한다.
      */
+    @Transactional(readOnly = true)
     public List<RoomParticipant> getAcceptedParticipants(Long roomId) {
         MatchingRoom room = getRoomById(roomId);
         return participantRepository.findAllByMatchingRoomAndStatus(
@@ -402,6 +670,7 @@ public class MatchingService {
     /**
      * 2) user->petList 구조로 반환 (Accepted)
      */
+    @Transactional(readOnly = true)
     public Map<User, List<Pet>> getAcceptedUserPets(MatchingRoom room) {
         List<RoomParticipant> accepted = participantRepository
                 .findAllByMatchingRoomAndStatus(room, RoomParticipant.ParticipantStatus.Accepted);
@@ -0,0 +1,55 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매칭방의 승인/대기 참가자 카운터(accepted_user_count, pending_user_count)를
+ * room_participants 기준으로 다시 계산하는 보정 작업
+ * matching.counter-repair.enabled=true 인 노드에서만 매일 정해진 시각(cron)에 실행됩니다.
+ * (여러 노드로 운영할 때는 한 노드에서만 켬, 서버 시작 시에는 실행하지 않음)
+ *
+ * 참가 신청/승인 트래픽과 겹쳐도 행 잠금이 길어지지 않도록 room_id 범위(batch-size) 단위로
+ * 나누어 범위마다 별도 트랜잭션으로 커밋합니다.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(name = "matching.counter-repair.enabled", havingValue = "true")
+public class ParticipantCountRepairService {
+
+    private final MatchingRoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public ParticipantCountRepairService(MatchingRoomRepository roomRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${matching.counter-repair.batch-size:500}") int batchSize) {
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${matching.counter-repair.cron:0 30 4 * * *}")
+    public void repairParticipantCounts() {
+        long maxRoomId = roomRepository.findMaxRoomId();
+        int updated = 0;
+        for (long after = 0; after < maxRoomId; after += batchSize) {
+            long from = after;
+            Integer rows = transactionTemplate.execute(status -> roomRepository.rebuildParticipantCounts(
+                    from, from + batchSize,
+                    RoomParticipant.ParticipantStatus.Accepted,
+                    RoomParticipant.ParticipantStatus.Pending));
+            updated += rows == null ? 0 : rows;
+        }
+        log.info("Rebuilt participant counters for {} matching rooms", updated);
+    }
+}
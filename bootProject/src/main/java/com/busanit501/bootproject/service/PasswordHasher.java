@@ -0,0 +1,35 @@
+package com.busanit501.bootproject.service;
+
+/**
+ * 비밀번호 해시 알고리즘
+ * 구현체: Argon2PasswordHasher(argon2id), BCryptPasswordHasher(bcrypt)
+ * 설정(user.password.algorithm)과 다른 알고리즘으로 저장된 해시도 검증할 수 있도록 두 구현체 모두 등록되며,
+ * 실제 호출은 전용 스레드 풀에서 실행하는 PasswordService 를 통해서만 합니다.
+ */
+public interface PasswordHasher {
+
+    /**
+     * 알고리즘 이름 (user.password.algorithm 값)
+     */
+    String algorithm();
+
+    /**
+     * 이 알고리즘으로 만든 해시 문자열인지 여부
+     */
+    boolean supports(String encoded);
+
+    /**
+     * 현재 설정한 비용(cost)으로 해시
+     */
+    String hash(CharSequence rawPassword);
+
+    /**
+     * 평문 비밀번호가 해시와 일치하는지 확인 (해시에 기록된 비용으로 계산)
+     */
+    boolean matches(CharSequence rawPassword, String encoded);
+
+    /**
+     * 해시에 기록된 비용이 현재 설정과 달라 다시 해시해야 하는지 여부
+     */
+    boolean needsRehash(String encoded);
+}
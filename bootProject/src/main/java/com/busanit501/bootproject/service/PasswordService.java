@@ -0,0 +1,130 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.config.AsyncConfig;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 서비스
+ * 해시 계산은 passwordExecutor(코어 수만큼의 스레드)에서만 실행되어 로그인이 몰려도 CPU 를 모두 차지하지 않으며,
+ * 대기열이 가득 차거나 timeout 을 넘기면 바로 실패를 반환합니다.
+ *
+ * 새 비밀번호는 user.password.algorithm 알고리즘과 현재 비용으로 해시하고,
+ * 검증은 해시 형식에 맞는 알고리즘으로 합니다. 비용/알고리즘이 바뀌었거나 예전의 평문 비밀번호이면
+ * needsRehash 가 true 이므로 로그인 성공 시 새 해시로 바꿔 저장합니다. (UserService.login)
+ *
+ * 평문 비밀번호 로그인은 user.password.legacy-plaintext-enabled=true 일 때만 허용하며,
+ * 그때도 해시 형식('$' 로 시작)이 아닌 값만 평문으로 봅니다. 인식하지 못한 해시(다른 argon2 변형, 잘린 값 등)를
+ * 평문으로 비교하면 해시 문자열 자체가 비밀번호가 되므로 항상 거부합니다.
+ */
+@Log4j2
+@Service
+public class PasswordService {
+
+    private final List<PasswordHasher> hashers;
+    private final PasswordHasher current;
+    private final Executor passwordExecutor;
+    private final long timeoutMillis;
+    private final boolean legacyPlaintextEnabled;
+
+    @Autowired
+    public PasswordService(List<PasswordHasher> hashers,
+                           @Value("${user.password.algorithm:argon2id}") String algorithm,
+                           @Qualifier(AsyncConfig.PASSWORD_EXECUTOR) Executor passwordExecutor,
+                           @Value("${user.password.timeout-ms:5000}") long timeoutMillis,
+                           @Value("${user.password.legacy-plaintext-enabled:false}") boolean legacyPlaintextEnabled) {
+        this.hashers = hashers;
+        this.current = hashers.stream()
+                .filter(hasher -> hasher.algorithm().equals(algorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 비밀번호 알고리즘: " + algorithm));
+        this.passwordExecutor = passwordExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.legacyPlaintextEnabled = legacyPlaintextEnabled;
+    }
+
+    /**
+     * 현재 알고리즘과 비용으로 해시
+     */
+    public String hash(String rawPassword) {
+        return execute(() -> current.hash(rawPassword));
+    }
+
+    /**
+     * 저장된 비밀번호와 일치하는지 확인
+     * 어느 알고리즘의 해시도 아니면 평문 허용 설정이 켜져 있고 해시 형식이 아닐 때만 그대로 비교합니다. (상수 시간 비교)
+     */
+    public boolean matches(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        PasswordHasher hasher = hasherFor(stored);
+        if (hasher == null) {
+            if (!legacyPlaintextEnabled || stored.startsWith("$")) {
+                log.warn("Rejected login against an unsupported stored password format");
+                return false;
+            }
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        return execute(() -> hasher.matches(rawPassword, stored));
+    }
+
+    /**
+     * 현재 알고리즘/비용과 다르게 저장된 비밀번호인지 여부 (평문 포함)
+     */
+    public boolean needsRehash(String stored) {
+        return !current.supports(stored) || current.needsRehash(stored);
+    }
+
+    private PasswordHasher hasherFor(String stored) {
+        for (PasswordHasher hasher : hashers) {
+            if (hasher.supports(stored)) {
+                return hasher;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * passwordExecutor 에서 task 를 실행하고 timeout 까지 기다림
+     * timeout/중단 시 작업을 취소하므로 아직 대기열에 있던 작업은 실행되지 않고 (이미 실행 중인 해시는 끝까지 계산됨)
+     * 응답을 기다리는 요청이 없는 작업이 대기열과 스레드를 계속 차지하지 않습니다.
+     */
+    private <T> T execute(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, passwordExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing is saturated: {}", e.toString());
+            throw new RuntimeException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {} ms", timeoutMillis);
+            throw new RuntimeException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 확인이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+}
@@ -4,11 +4,16 @@ import com.busanit501.bootproject.domain.Pet;
 import com.busanit501.bootproject.repository.PetRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 반려동물 조회 서비스 (모든 메서드가 읽기 전용 트랜잭션)
+ */
 @Service
+@Transactional(readOnly = true)
 public class PetService {
 
     private final PetRepository petRepository;
@@ -0,0 +1,69 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.RoomParticipantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭방 내용(제목, 설명, 장소, 참가자 펫 타입)을 RoomSearchDocument 로 읽어오는 서비스
+ * 검색 색인과 인기 키워드 집계를 DB 기준으로 다시 구성할 때 사용합니다.
+ */
+@Service
+public class RoomSearchDocumentLoader {
+
+    private final MatchingRoomRepository roomRepository;
+    private final RoomParticipantRepository participantRepository;
+
+    @Autowired
+    public RoomSearchDocumentLoader(MatchingRoomRepository roomRepository,
+                                    RoomParticipantRepository participantRepository) {
+        this.roomRepository = roomRepository;
+        this.participantRepository = participantRepository;
+    }
+
+    /**
+     * 전체 매칭방 문서 조회 (매칭방 1회 + 펫 타입 1회)
+     */
+    @Transactional(readOnly = true)
+    public List<RoomSearchDocument> loadAll() {
+        Map<Long, List<String>> petTypesByRoom = new HashMap<>();
+        for (Object[] row : participantRepository.findAllRoomIdAndPetTypes()) {
+            petTypesByRoom.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        List<RoomSearchDocument> documents = new ArrayList<>();
+        for (MatchingRoom room : roomRepository.findAll()) {
+            documents.add(new RoomSearchDocument(room.getRoomId(), room.getTitle(), room.getDescription(),
+                    room.getPlace(), petTypesByRoom.getOrDefault(room.getRoomId(), Collections.emptyList())));
+        }
+        return documents;
+    }
+
+    /**
+     * 매칭방 ID 로 문서 조회 (없으면 null)
+     * 다른 노드의 변경이 커밋된 직후에 읽으므로 복제 지연이 없는 주 DB 에서 조회합니다.
+     * (readOnly 트랜잭션은 복제 DB 로 라우팅됨, DataSourceConfig)
+     */
+    @Transactional
+    public RoomSearchDocument loadById(Long roomId) {
+        return roomRepository.findById(roomId).map(this::load).orElse(null);
+    }
+
+    /**
+     * 매칭방 하나의 문서 생성 (참가자 펫 타입은 DB 에서 조회)
+     */
+    public RoomSearchDocument load(MatchingRoom room) {
+        return new RoomSearchDocument(room.getRoomId(), room.getTitle(), room.getDescription(),
+                room.getPlace(), participantRepository.findPetTypesByRoomId(room.getRoomId()));
+    }
+}
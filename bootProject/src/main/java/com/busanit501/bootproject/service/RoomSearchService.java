@@ -0,0 +1,36 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+
+import java.util.List;
+
+/**
+ * 매칭방 검색 엔진 추상화
+ * matching.search.engine 설정값으로 구현체를 선택합니다.
+ * (inverted-index: 메모리 역색인(기본값), like: 기존 LIKE 검색 쿼리)
+ */
+public interface RoomSearchService {
+
+    /**
+     * 검색어와 일치하는 매칭방 ID 를 관련도 순으로 반환
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 매칭방 ID 목록 (관련도 내림차순)
+     */
+    List<Long> search(String query, int limit);
+
+    /**
+     * 매칭방 문서를 색인에 추가하거나 갱신
+     *
+     * @param document 색인할 문서
+     */
+    void index(RoomSearchDocument document);
+
+    /**
+     * 매칭방을 색인에서 제거
+     *
+     * @param roomId 매칭방 ID
+     */
+    void remove(Long roomId);
+}
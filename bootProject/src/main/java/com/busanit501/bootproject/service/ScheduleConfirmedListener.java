@@ -0,0 +1,51 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.config.AsyncConfig;
+import com.busanit501.bootproject.event.ScheduleConfirmedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일정 확정 이벤트를 받아 호스트와 승인된 참가자의 캘린더 일정을 생성
+ * 확정 트랜잭션이 커밋된 뒤 calendarExecutor 스레드에서 실행되므로 확정 요청은 참가자 수와 무관하게 바로 끝납니다.
+ * 일정 생성은 중복 없이 처리되므로 일시적인 DB 오류는 그대로 다시 시도합니다.
+ */
+@Log4j2
+@Component
+public class ScheduleConfirmedListener {
+
+    // 락 대기 시간 초과 등 일시적인 오류 시 다시 시도할 최대 횟수
+    private static final int MAX_RETRIES = 3;
+
+    private final CalendarService calendarService;
+
+    @Autowired
+    public ScheduleConfirmedListener(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    @Async(AsyncConfig.CALENDAR_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleConfirmed(ScheduleConfirmedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int created = calendarService.createSchedules(event.getRoomId());
+                log.info("Calendar entries created for {}: {}", event, created);
+                return;
+            } catch (TransientDataAccessException ex) {
+                if (attempt >= MAX_RETRIES) {
+                    log.error("Failed to create calendar entries for {} after {} attempts", event, attempt, ex);
+                    return;
+                }
+                log.warn("Retrying calendar entries for {} (attempt {}): {}", event, attempt, ex.getMessage());
+            } catch (RuntimeException ex) {
+                log.error("Failed to create calendar entries for {}", event, ex);
+                return;
+            }
+        }
+    }
+}
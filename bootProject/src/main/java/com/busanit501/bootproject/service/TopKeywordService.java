@@ -0,0 +1,150 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭방 목록 상단에 보여줄 인기 키워드(제목, 장소, 펫 타입의 단어 빈도) 집계 서비스
+ *
+ * 목록 요청마다 전체 테이블을 읽어 다시 세는 대신, 매칭방이 생성/수정/삭제될 때 해당 방의 단어만 더하고 빼서
+ * 빈도표(WordCounter)를 유지하고, 그때마다 상위 SNAPSHOT_SIZE 개 단어를 미리 계산해 둡니다.
+ * 따라서 조회(getTopKeywords)는 DB 접근 없이 미리 계산된 목록을 잘라 반환합니다.
+ * 단어 분리는 KeywordTokenizer 가 담당하며, 단어를 String 으로 만들지 않고 WordCounter 에 바로 더하고 뺍니다.
+ * (방별로 단어 목록을 들고 있지 않고, 마지막으로 집계한 문서를 다시 훑어 빈도를 뺌)
+ *
+ * 혹시 모를 누락(이벤트 유실, 다른 서버에서의 변경 등)을 보정하기 위해 서버 시작 시와 주기적으로(cron)
+ * DB 기준으로 전체를 다시 계산합니다.
+ */
+@Log4j2
+@Service
+public class TopKeywordService {
+
+    // 미리 계산해 두는 상위 키워드 수 (화면에서 요청하는 개수보다 넉넉하게)
+    static final int SNAPSHOT_SIZE = 20;
+
+    private final RoomSearchDocumentLoader documentLoader;
+    private final KeywordTokenizer tokenizer;
+
+    // 단어 -> 빈도 (lock 을 잡은 상태에서만 접근, 전체 재계산 시 교체)
+    private WordCounter wordCounts = new WordCounter();
+    // 매칭방 ID -> 마지막으로 집계한 문서, 수정/삭제 시 같은 단어를 다시 훑어 빈도 차감 (lock 을 잡은 상태에서만 접근)
+    private final Map<Long, RoomSearchDocument> documentsByRoom = new HashMap<>();
+    private final Object lock = new Object();
+    // 증분 갱신 횟수, 전체 재계산 도중 변경이 있었는지 판단하는 용도 (lock 을 잡은 상태에서만 접근)
+    private long version;
+
+    // 조회용 상위 키워드 (갱신 시 새 리스트로 교체)
+    private volatile List<String> topKeywords = Collections.emptyList();
+
+    @Autowired
+    public TopKeywordService(RoomSearchDocumentLoader documentLoader, KeywordTokenizer tokenizer) {
+        this.documentLoader = documentLoader;
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * 상위 키워드 반환 (빈도 내림차순, 최대 SNAPSHOT_SIZE 개)
+     */
+    public List<String> getTopKeywords(int limit) {
+        List<String> snapshot = topKeywords;
+        return new ArrayList<>(snapshot.subList(0, Math.min(limit, snapshot.size())));
+    }
+
+    /**
+     * 매칭방 내용이 추가/수정되었을 때 기존 단어를 빼고 새 단어를 더함
+     */
+    public void update(RoomSearchDocument document) {
+        synchronized (lock) {
+            subtractRoom(document.getRoomId());
+            countWords(document, wordCounts, 1);
+            documentsByRoom.put(document.getRoomId(), document);
+            version++;
+            refreshSnapshot();
+        }
+    }
+
+    /**
+     * 매칭방이 삭제되었을 때 해당 방의 단어를 뺌
+     */
+    public void remove(Long roomId) {
+        synchronized (lock) {
+            subtractRoom(roomId);
+            version++;
+            refreshSnapshot();
+        }
+    }
+
+    /**
+     * DB 기준으로 빈도표 전체를 다시 계산 (서버 시작 시, 이후 cron 주기)
+     * 읽는 도중 증분 갱신이 들어왔다면 읽은 내용이 이미 오래된 것이므로 교체하지 않고 다음 주기에 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${matching.keyword-rebuild.cron:0 */30 * * * *}")
+    public void rebuild() {
+        long startVersion;
+        synchronized (lock) {
+            startVersion = version;
+        }
+
+        WordCounter counts = new WordCounter();
+        Map<Long, RoomSearchDocument> roomDocuments = new HashMap<>();
+        for (RoomSearchDocument document : documentLoader.loadAll()) {
+            countWords(document, counts, 1);
+            roomDocuments.put(document.getRoomId(), document);
+        }
+
+        synchronized (lock) {
+            if (version != startVersion) {
+                log.info("Matching rooms changed during keyword rebuild, keeping incremental counts");
+                return;
+            }
+            if (!counts.toMap().equals(wordCounts.toMap())) {
+                log.warn("Keyword counts drifted from database, replacing {} words with {}",
+                        wordCounts.size(), counts.size());
+            }
+            wordCounts = counts;
+            documentsByRoom.clear();
+            documentsByRoom.putAll(roomDocuments);
+            refreshSnapshot();
+        }
+        log.info("Top keywords rebuilt from {} rooms, {} distinct words", roomDocuments.size(), counts.size());
+    }
+
+    // --------------------- 내부 헬퍼 메서드 (lock 을 잡은 상태에서 호출) ---------------------
+
+    private void subtractRoom(Long roomId) {
+        RoomSearchDocument previous = documentsByRoom.remove(roomId);
+        if (previous != null) {
+            countWords(previous, wordCounts, -1);
+        }
+    }
+
+    // 크기 SNAPSHOT_SIZE 의 힙으로 상위 단어만 골라 조회용 목록을 교체 (전체 정렬 없음)
+    private void refreshSnapshot() {
+        topKeywords = Collections.unmodifiableList(wordCounts.topK(SNAPSHOT_SIZE));
+    }
+
+    /**
+     * 제목, 장소, 참가자 펫 타입의 집계 대상 단어마다 counter 빈도에 delta 를 더함
+     */
+    private void countWords(RoomSearchDocument document, WordCounter counter, long delta) {
+        tokenizer.count(document.getTitle(), counter, delta);
+        tokenizer.count(document.getPlace(), counter, delta);
+        if (document.getPetTypes() != null) {
+            for (String petType : document.getPetTypes()) {
+                tokenizer.count(petType, counter, delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.enums.ImageVariant;
+import com.busanit501.bootproject.event.ImageReleasedEvent;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.PetRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 참조되지 않는 업로드 이미지 정리
+ * 참조 수는 matching_rooms.profile_picture, pets.profile_picture 에서 같은 URL 을 가진 행 수입니다.
+ * - 이미지가 교체/삭제되면 커밋 후 참조 수를 확인하여 0 이면 바로 삭제
+ * - 이벤트가 유실된 경우(서버 중단 등)를 위해 주기적으로 전체 폴더를 확인하여 삭제
+ * 방금 업로드되어 아직 매칭방에 저장되기 전인 파일을 지우지 않도록, 마지막 수정 시각이
+ * 유예 기간(upload.gc.grace-minutes)보다 오래된 파일만 삭제합니다.
+ */
+@Log4j2
+@Service
+public class UploadGarbageCollector {
+
+    private final ImageStorageService imageStorageService;
+    private final MatchingRoomRepository roomRepository;
+    private final PetRepository petRepository;
+    private final Duration gracePeriod;
+
+    @Autowired
+    public UploadGarbageCollector(ImageStorageService imageStorageService,
+                                  MatchingRoomRepository roomRepository,
+                                  PetRepository petRepository,
+                                  @Value("${upload.gc.grace-minutes:60}") long graceMinutes) {
+        this.imageStorageService = imageStorageService;
+        this.roomRepository = roomRepository;
+        this.petRepository = petRepository;
+        this.gracePeriod = Duration.ofMinutes(graceMinutes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageReleased(ImageReleasedEvent event) {
+        try {
+            if (releaseIfUnreferenced(event.getUrl())) {
+                log.debug("Unreferenced upload deleted: {}", event.getUrl());
+            }
+        } catch (IOException | RuntimeException ex) {
+            // 삭제하지 못한 파일은 주기적인 정리 작업에서 다시 처리
+            log.warn("Failed to release upload {}", event.getUrl(), ex);
+        }
+    }
+
+    /**
+     * 참조하는 매칭방/펫이 없고 유예 기간이 지난 업로드 이미지를 삭제
+     *
+     * @param url 업로드 이미지 URL
+     * @return 삭제했으면 true
+     */
+    public boolean releaseIfUnreferenced(String url) throws IOException {
+        Path path = imageStorageService.resolve(url);
+        if (path == null || !Files.exists(path) || !isExpired(path, Instant.now().minus(gracePeriod))) {
+            return false;
+        }
+        if (roomRepository.countByProfilePicture(url) > 0 || petRepository.countByProfilePicture(url) > 0) {
+            return false;
+        }
+        return imageStorageService.delete(url);
+    }
+
+    /**
+     * 업로드 폴더 전체를 확인하여 참조되지 않는 이미지(축소본 포함)와 남은 임시 파일을 삭제
+     *
+     * @return 삭제한 원본 이미지 수
+     */
+    @Scheduled(cron = "${upload.gc.cron:0 0 5 * * *}")
+    public int sweep() {
+        Set<String> referenced = new HashSet<>(roomRepository.findAllProfilePictures());
+        referenced.addAll(petRepository.findAllProfilePictures());
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(imageStorageService.getRoot())) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        int deleted = 0;
+        for (Path file : files) {
+            try {
+                if (!isExpired(file, cutoff)) {
+                    continue;
+                }
+                String url = imageStorageService.urlOf(file);
+                if (file.getFileName().toString().startsWith(ImageStorageService.TEMP_PREFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (ImageVariant.originalOf(url) != null) {
+                    // 축소본은 원본과 함께 삭제되므로 원본이 없는 경우만 정리
+                    if (!Files.exists(imageStorageService.resolve(ImageVariant.originalOf(url)))) {
+                        Files.deleteIfExists(file);
+                    }
+                } else if (!referenced.contains(url) && imageStorageService.delete(url)) {
+                    deleted++;
+                }
+            } catch (IOException ex) {
+                log.warn("Failed to clean up upload {}", file, ex);
+            }
+        }
+        log.info("Upload sweep finished: {} files checked, {} unreferenced images deleted", files.size(), deleted);
+        return deleted;
+    }
+
+    private static boolean isExpired(Path file, Instant cutoff) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toInstant().isBefore(cutoff);
+    }
+}
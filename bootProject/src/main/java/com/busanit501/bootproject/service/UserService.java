@@ -6,56 +6,91 @@ import com.busanit501.bootproject.dto.UserLoginDTO;
 import com.busanit501.bootproject.dto.UserRegisterDTO;
 import com.busanit501.bootproject.repository.PetRepository;
 import com.busanit501.bootproject.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+
+@Log4j2
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
     private final PetRepository petRepository;
+    private final PasswordService passwordService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 로그인 사용자 조회용 노드 로컬 캐시 (짧은 TTL, 화면 표시용 읽기 전용 스냅샷)
+    private final Cache<Long, User> loginUserCache;
 
     @Autowired
-    public UserService(UserRepository userRepository, PetRepository petRepository) {
+    public UserService(UserRepository userRepository, PetRepository petRepository,
+                       PasswordService passwordService,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${user.login-cache.ttl-seconds:30}") long ttlSeconds,
+                       @Value("${user.login-cache.max-size:10000}") long maxSize) {
         this.userRepository = userRepository;
         this.petRepository = petRepository;
+        this.passwordService = passwordService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.loginUserCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
     }
 
     /**
      * 사용자 회원가입과 반려동물 등록
+     * 해시 계산 동안 DB 연결을 잡고 있지 않도록 비밀번호는 트랜잭션 밖에서 먼저 해시하고,
+     * 사용자/반려동물 저장만 짧은 트랜잭션으로 처리합니다.
+     * (이메일 중복 확인 후 동시에 같은 이메일로 가입하면 users.email 유니크 제약이 막음)
      *
      * @param dto 사용자 및 반려동물 등록 정보 DTO
      */
-    @Transactional
     public void registerWithPet(UserRegisterDTO dto) {
         if (userRepository.existsByEmail(dto.getEmail())) {
             throw new RuntimeException("이미 등록된 이메일입니다.");
         }
 
-        User user = mapDtoToUser(dto);
-        user.setPassword(dto.getPassword()); // 비밀번호 암호화 제거
-        User savedUser = userRepository.save(user); // 사용자 저장
-
-        Pet pet = mapDtoToPet(dto, savedUser);
-        petRepository.save(pet); // 반려동물 저장
+        String hashedPassword = passwordService.hash(dto.getPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            User savedUser = userRepository.save(mapDtoToUser(dto, hashedPassword)); // 사용자 저장
+            petRepository.save(mapDtoToPet(dto, savedUser)); // 반려동물 저장
+        });
     }
 
     /**
      * 사용자 로그인
+     * 해시 계산 동안 DB 연결을 잡고 있지 않도록 트랜잭션 없이 조회/검증하고,
+     * 예전 방식(평문, 이전 비용)으로 저장된 비밀번호는 검증에 성공했을 때 새 해시로 교체합니다.
      *
      * @param dto 사용자 로그인 정보 DTO
      * @return 로그인 성공한 사용자
      */
-    @Transactional(readOnly = true)
     public User login(UserLoginDTO dto) {
         User user = userRepository.findByEmail(dto.getEmail())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        if (!dto.getPassword().equals(user.getPassword())) {
+        String stored = user.getPassword();
+        if (!passwordService.matches(dto.getPassword(), stored)) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
+        if (passwordService.needsRehash(stored)) {
+            String rehashed = passwordService.hash(dto.getPassword());
+            if (userRepository.updatePassword(user.getUserId(), stored, rehashed) == 1) {
+                user.setPassword(rehashed);
+                evictLoginUser(user.getUserId());
+                log.info("Password rehashed for user {}", user.getUserId());
+            }
+        }
         return user;
     }
 
@@ -70,6 +105,24 @@ public class UserService {
         return userRepository.findById(userId).orElse(null);
     }
 
+    /**
+     * 로그인 사용자 조회 (TTL 동안은 DB 를 다시 읽지 않음)
+     * 반환된 엔티티는 여러 요청이 함께 보는 준영속 객체이므로 값을 바꾸지 말고 화면 표시에만 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return User 객체 (없을 경우 null)
+     */
+    public User findLoginUser(Long userId) {
+        return loginUserCache.get(userId, id -> userRepository.findById(id).orElse(null));
+    }
+
+    /**
+     * 로그인 사용자 캐시에서 제거 (사용자 정보가 바뀐 경우)
+     */
+    public void evictLoginUser(Long userId) {
+        loginUserCache.invalidate(userId);
+    }
+
     /**
      * 이메일로 사용자 조회
      *
@@ -86,13 +139,14 @@ public class UserService {
     /**
      * UserRegisterDTO를 User 엔티티로 매핑
      *
-     * @param dto UserRegisterDTO
+     * @param dto            UserRegisterDTO
+     * @param hashedPassword 미리 해시한 비밀번호
      * @return 매핑된 User 엔티티
      */
-    private User mapDtoToUser(UserRegisterDTO dto) {
+    private User mapDtoToUser(UserRegisterDTO dto, String hashedPassword) {
         User user = new User();
         user.setEmail(dto.getEmail());
-        user.setPassword(dto.getPassword()); // 비밀번호 해싱 제거
+        user.setPassword(hashedPassword);
         user.setName(dto.getName());
         user.setAge(dto.getAge());
         user.setGender(dto.getGender());
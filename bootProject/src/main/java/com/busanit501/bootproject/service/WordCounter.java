@@ -0,0 +1,245 @@
+package com.busanit501.bootproject.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 단어 -> 빈도(long) 를 저장하는 오픈 어드레싱(선형 탐사) 해시 테이블
+ *
+ * HashMap&lt;String, Long&gt; 과 달리 빈도를 long 배열에 그대로 저장하여 박싱이 없고,
+ * 토크나이저의 char 버퍼를 그대로 받아 조회하므로 이미 있는 단어는 String 을 새로 만들지 않습니다.
+ * 빈도가 0 이 된 단어는 자리만 남겨 두었다가 테이블을 키울 때 정리합니다.
+ *
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓰려면 호출하는 쪽에서 동기화해야 합니다.
+ */
+public final class WordCounter {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] hashes;
+    private long[] counts;
+    private int mask;
+    // 사용 중인 슬롯 수 (빈도 0 인 슬롯 포함)
+    private int used;
+
+    public WordCounter() {
+        this(MIN_CAPACITY);
+    }
+
+    public WordCounter(int expectedWords) {
+        allocate(tableSizeFor(expectedWords));
+    }
+
+    /**
+     * char 버퍼의 앞 length 글자로 이루어진 단어의 빈도에 delta 를 더함
+     * (처음 나온 단어일 때만 String 생성)
+     */
+    public void add(char[] chars, int length, long delta) {
+        int hash = hash(chars, length);
+        int slot = find(chars, length, hash);
+        if (keys[slot] != null) {
+            counts[slot] += delta;
+            return;
+        }
+        if (delta != 0) {
+            insert(slot, new String(chars, 0, length), hash, delta);
+        }
+    }
+
+    /**
+     * 단어의 빈도에 delta 를 더함
+     */
+    public void add(String word, long delta) {
+        int hash = spread(word.hashCode());
+        int slot = find(word, hash);
+        if (keys[slot] != null) {
+            counts[slot] += delta;
+            return;
+        }
+        if (delta != 0) {
+            insert(slot, word, hash, delta);
+        }
+    }
+
+    /**
+     * 단어의 빈도 (없으면 0)
+     */
+    public long get(String word) {
+        int slot = find(word, spread(word.hashCode()));
+        return keys[slot] == null ? 0 : counts[slot];
+    }
+
+    /**
+     * char 버퍼의 앞 length 글자로 이루어진 단어가 (빈도 1 이상으로) 들어 있는지 여부
+     */
+    public boolean contains(char[] chars, int length) {
+        int slot = find(chars, length, hash(chars, length));
+        return keys[slot] != null && counts[slot] > 0;
+    }
+
+    /**
+     * 빈도가 0 이 아닌 단어 수
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && counts[i] != 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * 빈도 높은 순(같으면 단어 사전 순)으로 상위 k 개 단어 반환
+     * 크기 k 의 힙만 사용하므로 전체 정렬 없이 O(V log k) 입니다.
+     */
+    public List<String> topK(int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        // 힙의 맨 앞에 가장 순위가 낮은 슬롯이 오도록 정렬
+        PriorityQueue<Integer> heap = new PriorityQueue<>((a, b) -> compareRank(b, a));
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null || counts[i] <= 0) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.offer(i);
+            } else if (compareRank(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(i);
+            }
+        }
+
+        List<Integer> slots = new ArrayList<>(heap);
+        slots.sort(this::compareRank);
+        List<String> words = new ArrayList<>(slots.size());
+        slots.forEach(slot -> words.add(keys[slot]));
+        return words;
+    }
+
+    /**
+     * 빈도가 0 이 아닌 단어를 Map 으로 복사 (비교, 디버깅용)
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && counts[i] != 0) {
+                map.put(keys[i], counts[i]);
+            }
+        }
+        return map;
+    }
+
+    // --------------------- 내부 헬퍼 메서드 ---------------------
+
+    // 음수면 a 가 더 높은 순위
+    private int compareRank(int a, int b) {
+        int byCount = Long.compare(counts[b], counts[a]);
+        return byCount != 0 ? byCount : keys[a].compareTo(keys[b]);
+    }
+
+    private int find(char[] chars, int length, int hash) {
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && matches(keys[slot], chars, length)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int find(String word, int hash) {
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && keys[slot].equals(word)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, String word, int hash, long count) {
+        keys[slot] = word;
+        hashes[slot] = hash;
+        counts[slot] = count;
+        used++;
+        // 사용률 75% 를 넘으면 빈도 0 인 단어를 버리고 다시 배치
+        if (used * 4 > keys.length * 3) {
+            rehash();
+        }
+    }
+
+    private void rehash() {
+        String[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        long[] oldCounts = counts;
+        allocate(tableSizeFor(size() + 1));
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null || oldCounts[i] == 0) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            hashes[slot] = oldHashes[i];
+            counts[slot] = oldCounts[i];
+            used++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        counts = new long[capacity];
+        mask = capacity - 1;
+        used = 0;
+    }
+
+    // 예상 단어 수가 사용률 50% 이하가 되는 2의 거듭제곱 크기
+    private static int tableSizeFor(int expectedWords) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedWords * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static boolean matches(String key, char[] chars, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.hashCode() 와 같은 값을 만들어 String 으로 조회한 경우와 같은 슬롯을 사용
+    private static int hash(char[] chars, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars[i];
+        }
+        return spread(h);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,19 @@
+-- 매칭방 일정의 중복 기준을 (사용자, 매칭방, 날짜, 시간) 에서 (사용자, 매칭방) 으로 변경
+-- 일정 확정을 다시 하면 같은 행의 날짜/시간을 옮기도록 (CalendarBatchRepositoryImpl 의 ON DUPLICATE KEY UPDATE)
+-- (DROP CONSTRAINT 로 유니크 키 삭제는 MariaDB 10.4 이상)
+ALTER TABLE calendar DROP CONSTRAINT uk_calendar_user_room_schedule;
+
+-- 날짜/시간만 다른 같은 매칭방 일정은 가장 나중에 만든 행(마지막 확정)만 남김
+DELETE FROM calendar
+WHERE matching_room_id IS NOT NULL
+  AND schedule_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MAX(schedule_id) AS keep_id
+        FROM calendar
+        WHERE matching_room_id IS NOT NULL
+        GROUP BY user_id, matching_room_id
+    ) AS keep_rows
+);
+
+ALTER TABLE calendar
+    ADD CONSTRAINT uk_calendar_user_room UNIQUE (user_id, matching_room_id);
@@ -0,0 +1,86 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto=update 로 만들어지던 엔티티 테이블 (그 시점의 컬럼, 키만 포함)
+-- 이미 운영 중인 DB 에서는 모든 테이블이 있으므로 IF NOT EXISTS 로 아무것도 하지 않고,
+-- 이후 추가된 컬럼, 키, 테이블은 V5 부터의 마이그레이션에서 ALTER/CREATE 합니다.
+-- MariaDB 와 테스트용 H2(MariaDB 모드)에서 모두 실행되는 문법만 사용합니다.
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    age          BIGINT       NOT NULL,
+    gender       VARCHAR(20)  NOT NULL,
+    address      VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    is_verified  BOOLEAN      NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    CONSTRAINT pk_users PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_phone_number UNIQUE (phone_number)
+);
+
+CREATE TABLE IF NOT EXISTS pets (
+    pet_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    type            VARCHAR(255) NOT NULL,
+    age             BIGINT       NOT NULL,
+    gender          VARCHAR(20)  NOT NULL,
+    weight          DOUBLE       NOT NULL,
+    personality     VARCHAR(255) NOT NULL,
+    is_default      BOOLEAN      NOT NULL,
+    profile_picture VARCHAR(255),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    CONSTRAINT pk_pets PRIMARY KEY (pet_id),
+    CONSTRAINT fk_pets_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS matching_rooms (
+    room_id             BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id             BIGINT       NOT NULL,
+    title               VARCHAR(255) NOT NULL,
+    description         TEXT         NOT NULL,
+    place               VARCHAR(255) NOT NULL,
+    meeting_date        DATE         NOT NULL,
+    meeting_time        TIME         NOT NULL,
+    max_participants    BIGINT       NOT NULL,
+    profile_picture     VARCHAR(255),
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    CONSTRAINT pk_matching_rooms PRIMARY KEY (room_id),
+    CONSTRAINT fk_matching_rooms_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS room_participants (
+    participant_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    matching_room_id BIGINT      NOT NULL,
+    user_id          BIGINT      NOT NULL,
+    pet_id           BIGINT      NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    CONSTRAINT pk_room_participants PRIMARY KEY (participant_id),
+    CONSTRAINT fk_room_participants_room FOREIGN KEY (matching_room_id)
+        REFERENCES matching_rooms (room_id) ON DELETE CASCADE,
+    CONSTRAINT fk_room_participants_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_room_participants_pet FOREIGN KEY (pet_id) REFERENCES pets (pet_id)
+);
+
+CREATE TABLE IF NOT EXISTS calendar (
+    schedule_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    schedule_name    VARCHAR(255) NOT NULL,
+    walk_date        DATE         NOT NULL,
+    walk_time        TIME         NOT NULL,
+    walk_place       VARCHAR(255) NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    matching         BOOLEAN,
+    schedul_start    TIME,
+    schedul_end      TIME,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    CONSTRAINT pk_calendar PRIMARY KEY (schedule_id),
+    CONSTRAINT fk_calendar_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
@@ -0,0 +1,25 @@
+-- 저장소(Repository) 조회 조건별 복합 인덱스
+-- 각 인덱스가 담당하는 조회는 QueryPlanTest 에서 EXPLAIN 으로 전체 스캔 여부를 확인합니다.
+
+-- room_participants
+-- (matching_room_id), (matching_room_id, user_id), (matching_room_id, user_id, status) 조회는
+-- 기존 유니크 키 uk_room_participant_pet(matching_room_id, user_id, pet_id) 의 앞부분을 사용
+-- (matching_room_id, status) 조회 + 상태별 사용자 수 집계: user_id 까지 포함하여 테이블을 읽지 않음
+CREATE INDEX IF NOT EXISTS idx_room_participants_room_status_user
+    ON room_participants (matching_room_id, status, user_id);
+-- 사용자/펫 기준 조회 및 외래 키 확인
+CREATE INDEX IF NOT EXISTS idx_room_participants_user ON room_participants (user_id);
+CREATE INDEX IF NOT EXISTS idx_room_participants_pet ON room_participants (pet_id);
+
+-- matching_rooms: 호스트 기준 조회 및 외래 키 확인
+CREATE INDEX IF NOT EXISTS idx_matching_rooms_user ON matching_rooms (user_id);
+
+-- pets: findByUserAndIsDefault, findAllByUser_UserId (앞부분 사용)
+CREATE INDEX IF NOT EXISTS idx_pets_user_default ON pets (user_id, is_default);
+
+-- calendar: findByUserAndSchedulename
+CREATE INDEX IF NOT EXISTS idx_calendar_user_schedule_name ON calendar (user_id, schedule_name);
+
+-- users: findByAgeGreaterThanEqual, findByAgeLessThanEqual
+-- (email, phone_number 는 유니크 키, findByNameContaining 은 앞쪽 % 검색이라 인덱스 대상 아님)
+CREATE INDEX IF NOT EXISTS idx_users_age ON users (age);
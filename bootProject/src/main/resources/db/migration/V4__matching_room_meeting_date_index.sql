@@ -0,0 +1,4 @@
+-- 운영 지표(모집 중인 매칭방 수, 대기 신청 수) 집계용 인덱스
+-- MatchingRoomRepository.countOpenRooms, sumPendingUserCount 는 모임 날짜가 지나지 않은 방만 읽음 (QueryPlanTest)
+-- 참가 신청/승인마다 바뀌는 카운터 컬럼은 인덱스 갱신이 잦아지므로 포함하지 않음
+CREATE INDEX IF NOT EXISTS idx_matching_rooms_meeting_date ON matching_rooms (meeting_date);
@@ -0,0 +1,14 @@
+-- 같은 사용자가 같은 펫으로 한 매칭방에 두 번 참가하지 못하도록 유니크 키 추가
+-- 유니크 키가 없던 때 생긴 중복 행은 가장 먼저 신청한 행(participant_id 최소)만 남기고 삭제
+-- (같은 테이블을 조건으로 삭제하기 위해 파생 테이블로 한 번 감쌈)
+DELETE FROM room_participants
+WHERE participant_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MIN(participant_id) AS keep_id
+        FROM room_participants
+        GROUP BY matching_room_id, user_id, pet_id
+    ) AS keep_rows
+);
+
+ALTER TABLE room_participants
+    ADD CONSTRAINT uk_room_participant_pet UNIQUE (matching_room_id, user_id, pet_id);
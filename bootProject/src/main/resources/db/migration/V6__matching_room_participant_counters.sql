@@ -0,0 +1,10 @@
+-- 매칭방의 승인/대기 참가자 수 카운터 (MatchingRoomRepository.adjustParticipantCounts 등으로만 변경)
+ALTER TABLE matching_rooms ADD COLUMN accepted_user_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE matching_rooms ADD COLUMN pending_user_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 방의 카운터를 room_participants 기준으로 채움 (rebuildParticipantCounts 와 같은 계산, 사용자 단위)
+UPDATE matching_rooms r SET
+    accepted_user_count = (SELECT COUNT(DISTINCT a.user_id) FROM room_participants a
+                           WHERE a.matching_room_id = r.room_id AND a.status = 'Accepted'),
+    pending_user_count = (SELECT COUNT(DISTINCT p.user_id) FROM room_participants p
+                          WHERE p.matching_room_id = r.room_id AND p.status = 'Pending');
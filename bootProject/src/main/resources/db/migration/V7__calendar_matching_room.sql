@@ -0,0 +1,6 @@
+-- 매칭방 일정 확정으로 만든 일정의 매칭방 ID (직접 만든 일정은 NULL)
+-- 기존 일정은 모두 NULL 이므로 유니크 키에 걸리는 중복이 없음
+ALTER TABLE calendar ADD COLUMN matching_room_id BIGINT;
+
+ALTER TABLE calendar
+    ADD CONSTRAINT uk_calendar_user_room_schedule UNIQUE (user_id, matching_room_id, walk_date, walk_time);
@@ -0,0 +1,11 @@
+-- 노드 간 2차 캐시/검색 색인 무효화 기록 (ClusterCacheInvalidator)
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    invalidation_id BIGINT      NOT NULL AUTO_INCREMENT,
+    region          VARCHAR(20) NOT NULL,
+    entity_id       BIGINT      NOT NULL,
+    origin_node     VARCHAR(64) NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    CONSTRAINT pk_cache_invalidation PRIMARY KEY (invalidation_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created_at ON cache_invalidation (created_at);
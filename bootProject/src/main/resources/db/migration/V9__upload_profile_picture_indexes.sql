@@ -0,0 +1,3 @@
+-- 업로드 이미지 참조 수 확인용 인덱스 (PetRepository, MatchingRoomRepository.countByProfilePicture)
+CREATE INDEX IF NOT EXISTS idx_pets_profile_picture ON pets (profile_picture);
+CREATE INDEX IF NOT EXISTS idx_matching_rooms_profile_picture ON matching_rooms (profile_picture);
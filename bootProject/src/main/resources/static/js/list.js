@@ -20,3 +20,107 @@ document.addEventListener('DOMContentLoaded', function () {
         // 필요에 따라 추가적인 로직을 여기에 작성할 수 있습니다.
     });
 });
+
+// 무한 스크롤: 센티널이 화면에 들어오면 다음 페이지(커서 기반)를 불러와 카드를 이어 붙입니다.
+document.addEventListener('DOMContentLoaded', function () {
+    const sentinel = document.getElementById('scroll-sentinel');
+    const grid = document.getElementById('room-grid');
+    if (!sentinel || !grid || !('IntersectionObserver' in window)) {
+        return;
+    }
+
+    let nextCursor = sentinel.dataset.nextCursor;
+    const pageSize = sentinel.dataset.pageSize;
+    // 버전(해시)이 붙은 기본 이미지 URL (list.html 에서 전달)
+    const defaultImage = sentinel.dataset.defaultImage;
+    let loading = false;
+
+    const observer = new IntersectionObserver(function (entries) {
+        if (entries[0].isIntersecting) {
+            loadNextPage();
+        }
+    }, { rootMargin: '200px' });
+    observer.observe(sentinel);
+
+    function loadNextPage() {
+        if (loading || !nextCursor) {
+            return;
+        }
+        loading = true;
+
+        fetch('/matching/list/more?cursor=' + encodeURIComponent(nextCursor) + '&size=' + encodeURIComponent(pageSize),
+            { headers: { 'Accept': 'application/json' } })
+            .then(function (response) {
+                if (!response.ok) {
+                    throw new Error('HTTP ' + response.status);
+                }
+                return response.json();
+            })
+            .then(function (page) {
+                page.rooms.forEach(function (room) {
+                    grid.appendChild(createRoomCard(room));
+                });
+                nextCursor = page.hasNext ? page.nextCursor : null;
+                if (!nextCursor) {
+                    observer.disconnect();
+                    sentinel.remove();
+                }
+            })
+            .catch(function (error) {
+                console.error('매칭방 목록을 불러오지 못했습니다.', error);
+                observer.disconnect();
+            })
+            .finally(function () {
+                loading = false;
+            });
+    }
+
+    // 서버에서 렌더링하는 카드(list.html)와 동일한 구조로 카드 요소를 생성
+    function createRoomCard(room) {
+        const card = document.createElement('a');
+        card.className = 'card';
+        card.href = '/matching/detail/' + room.roomId;
+
+        const image = document.createElement('img');
+        image.className = 'card-img-top room-image';
+        image.src = room.profilePicture ? room.listPicture : defaultImage;
+        image.loading = 'lazy';
+        image.alt = room.profilePicture ? '방 이미지' : '기본 이미지';
+        card.appendChild(image);
+
+        const body = document.createElement('div');
+        body.className = 'card-body';
+
+        const title = document.createElement('h5');
+        title.className = 'card-title';
+        title.textContent = room.title;
+        body.appendChild(title);
+
+        const hostName = room.user ? room.user.name : '';
+        body.appendChild(createInfoRow('모임 장소', room.place));
+        body.appendChild(createInfoRow('참여 현황', room.currentParticipants + '/' + room.maxParticipants));
+        body.appendChild(createInfoRow('호스트', hostName));
+        body.appendChild(createInfoRow('펫 타입', room.petType));
+
+        card.appendChild(body);
+        return card;
+    }
+
+    function createInfoRow(label, value) {
+        const row = document.createElement('div');
+        row.className = 'info-row';
+
+        const strong = document.createElement('strong');
+        strong.className = 'info-label';
+        strong.textContent = label;
+
+        const span = document.createElement('span');
+        span.className = 'info-data';
+        span.textContent = value == null ? '' : value;
+        span.title = span.textContent;
+
+        row.appendChild(strong);
+        row.appendChild(span);
+        return row;
+    }
+});
@@ -1,7 +1,7 @@
 package com.busanit501.bootproject.CalendarRepository;
 
-import com.busanit501.bootproject.domain.Gender;
 import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.enums.Gender;
 import com.busanit501.bootproject.repository.UserRepository;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +9,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import java.time.LocalDateTime;
-
 @Log4j2
 @SpringBootTest
 public class UserTest {
@@ -29,14 +27,11 @@ public class UserTest {
                 .email("testuser@testemail.com") // 겹치면 안됨
                 .password("123123")
                 .name("효정")
-                .age(29)
+                .age(29L)
                 .gender(Gender.FEMALE)
                 .address("부산시")
-                .profilePicture("http://example.com/profile.jpg")
                 .phoneNumber("010-1234-5678")
                 .isVerified(true)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
                 .build();
 
         // 사용자 저장
@@ -0,0 +1,75 @@
+package com.busanit501.bootproject;
+
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.MatchingRoomDTO;
+import com.busanit501.bootproject.enums.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 테스트용 엔티티/DTO 생성 도우미 (저장하지 않은 새 객체를 반환, 저장은 각 테스트에서 저장소나 EntityManager 로)
+ * 이메일, 전화번호는 유니크 제약이 있으므로 매번 임의 값으로 채웁니다.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 비밀번호가 "1234" 인 새 사용자
+     */
+    public static User newUser(String name) {
+        String unique = UUID.randomUUID().toString();
+        return User.builder()
+                .email(unique + "@test.com")
+                .password("1234")
+                .name(name)
+                .age(30L)
+                .gender(Gender.MALE)
+                .address("부산")
+                .phoneNumber(unique)
+                .isVerified(false)
+                .build();
+    }
+
+    /**
+     * owner 의 새 펫 (시바견)
+     */
+    public static Pet newPet(User owner) {
+        return newPet(owner, "시바견");
+    }
+
+    /**
+     * owner 의 새 펫 (type 종류)
+     */
+    public static Pet newPet(User owner, String type) {
+        Pet pet = new Pet();
+        pet.setUser(owner);
+        pet.setName("보리");
+        pet.setType(type);
+        pet.setAge(2L);
+        pet.setGender(Gender.FEMALE);
+        pet.setWeight(8.0);
+        pet.setPersonality("활발함");
+        return pet;
+    }
+
+    /**
+     * 내일 부산 광안리에서 모이는 매칭방 생성/수정 요청 (호스트 펫 hostPet 으로 참가)
+     */
+    public static MatchingRoomDTO roomDto(String title, long maxParticipants, Pet hostPet) {
+        MatchingRoomDTO dto = new MatchingRoomDTO();
+        dto.setTitle(title);
+        dto.setDescription(title + " 모임입니다");
+        dto.setPlace("부산 광안리");
+        dto.setMeetingDate(LocalDate.now().plusDays(1));
+        dto.setMeetingTime(LocalTime.of(9, 0));
+        dto.setMaxParticipants(maxParticipants);
+        dto.setPetIds(List.of(hostPet.getPetId()));
+        return dto;
+    }
+}
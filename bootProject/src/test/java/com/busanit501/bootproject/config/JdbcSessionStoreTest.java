@@ -0,0 +1,80 @@
+package com.busanit501.bootproject.config;
+
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
+import com.busanit501.bootproject.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * cluster 프로파일에서 로그인 세션이 DB(Spring Session JDBC)에 저장되어 다른 노드에서도 읽히는지 확인
+ * (내장 H2 MariaDB 모드, 세션 테이블은 Flyway V3__spring_session.sql 로 생성)
+ */
+// 노드 간 캐시 폴링은 이 테스트와 무관하므로 주기를 길게
+@SpringBootTest(properties = "cluster.cache-sync.poll-interval=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("cluster")
+class JdbcSessionStoreTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcIndexedSessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void principalRoundTripsThroughJdbcStore() {
+        LoginUserPrincipal principal = new LoginUserPrincipal(7L, "홍길동", List.of(LoginUserPrincipal.ROLE_USER));
+        JdbcIndexedSessionRepository.JdbcSession session = sessionRepository.createSession();
+        session.setAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE, principal);
+        sessionRepository.save(session);
+
+        // 다른 노드처럼 DB 에서 다시 읽음
+        Session loaded = sessionRepository.findById(session.getId());
+        assertNotNull(loaded);
+        assertEquals(principal, loaded.getAttribute(LoginUserPrincipal.SESSION_ATTRIBUTE));
+    }
+
+    @Test
+    void loginStoresPrincipalInSessionTable() throws Exception {
+        User user = userRepository.save(newUser("세션"));
+
+        MvcResult result = mockMvc.perform(post("/user/login")
+                        .param("email", user.getEmail())
+                        .param("password", "1234"))
+                .andExpect(redirectedUrl("/matching/list"))
+                .andReturn();
+
+        Cookie cookie = result.getResponse().getCookie("SESSION");
+        assertNotNull(cookie);
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM SPRING_SESSION_ATTRIBUTES a JOIN SPRING_SESSION s " +
+                        "ON a.SESSION_PRIMARY_ID = s.PRIMARY_ID WHERE a.ATTRIBUTE_NAME = ?",
+                Integer.class, LoginUserPrincipal.SESSION_ATTRIBUTE);
+        assertTrue(stored != null && stored >= 1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.busanit501.bootproject.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영 설정처럼 관리 포트를 분리하면 서비스 포트에서는 지표 엔드포인트가 보이지 않는지 확인
+ */
+@SpringBootTest(properties = {
+        "management.server.port=8081",
+        "management.endpoints.web.exposure.include=health,metrics,prometheus"
+})
+@AutoConfigureMockMvc
+class ManagementPortTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void actuatorIsNotServedOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,49 @@
+package com.busanit501.bootproject.config;
+
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus 수집 엔드포인트에 컨트롤러/서비스 히스토그램과 매칭 업무 지표가 나오는지 확인
+ * (운영은 별도 관리 포트지만 MockMvc 로 확인하기 위해 서비스와 같은 포트 사용)
+ */
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exposesLatencyHistogramsAndBusinessMetrics() throws Exception {
+        mockMvc.perform(get("/matching/list/more").sessionAttr(LoginUserPrincipal.SESSION_ATTRIBUTE,
+                        new LoginUserPrincipal(1L, "홍길동", List.of(LoginUserPrincipal.ROLE_USER))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("uri=\"/matching/list/more\"")))
+                .andExpect(content().string(containsString("matching_service_seconds_bucket")))
+                .andExpect(content().string(containsString("matching_applications_total")))
+                .andExpect(content().string(containsString("matching_capacity_rejections_total")))
+                .andExpect(content().string(containsString("matching_rooms_open")))
+                .andExpect(content().string(containsString("matching_applications_pending")));
+    }
+}
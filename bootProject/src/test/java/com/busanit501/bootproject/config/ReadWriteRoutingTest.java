@@ -0,0 +1,171 @@
+package com.busanit501.bootproject.config;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import com.busanit501.bootproject.service.MatchingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static com.busanit501.bootproject.TestFixtures.roomDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 읽기/쓰기 라우팅 확인 (주 DB, 복제 DB 를 각각 내장 H2 로 실행)
+ * 두 DB 에 서로 다른 값을 넣어 두고 어느 DB 에서 읽었는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.jdbc-url=jdbc:h2:mem:bootproject-replica;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.maximum-pool-size=2"
+})
+class ReadWriteRoutingTest {
+
+    private static final String MARKER_SQL = "SELECT name FROM routing_marker";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier(DataSourceConfig.WRITE_DATA_SOURCE)
+    private DataSource writeDataSource;
+
+    @Autowired
+    @Qualifier(DataSourceConfig.READ_DATA_SOURCE)
+    private DataSource readDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @BeforeEach
+    void setUp() {
+        // 운영에서는 복제로 맞춰지는 스키마를 테스트에서는 직접 마이그레이션
+        Flyway.configure().dataSource(readDataSource).locations("classpath:db/migration").load().migrate();
+        mark(writeDataSource, "primary");
+        mark(readDataSource, "replica");
+    }
+
+    private void mark(DataSource target, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", readMarker(true));
+        assertEquals("primary", readMarker(false));
+        // 트랜잭션 밖의 조회는 주 DB
+        assertEquals("primary", new JdbcTemplate(dataSource).queryForObject(MARKER_SQL, String.class));
+    }
+
+    @Test
+    void pinnedRequestsReadFromPrimary() {
+        ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            assertEquals("primary", readMarker(true));
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+        }
+        assertEquals("replica", readMarker(true));
+    }
+
+    @Test
+    void readOnlyServiceMethodsRunOnReplica() {
+        long replicaBefore = statements(DataSourceConfig.READ_DATA_SOURCE);
+
+        matchingService.getRoomsPage(null, 5);
+
+        assertTrue(statements(DataSourceConfig.READ_DATA_SOURCE) > replicaBefore);
+    }
+
+    @Test
+    void replicaReadsDoNotPopulateSecondLevelCache() {
+        User host = userRepository.save(newUser("host"));
+        Pet hostPet = petRepository.save(newPet(host));
+        Long roomId = matchingService.createRoom(roomDto("광안리 아침 산책", 4, hostPet), host.getUserId());
+
+        // 복제가 늦어 복제 DB 에는 호스트가 승인되기 전 카운터가 남아 있고,
+        // bulk UPDATE 로 캐시에서 제거된 직후인 상황
+        JdbcTemplate replica = new JdbcTemplate(readDataSource);
+        replica.update("INSERT INTO users (user_id, email, password, name, age, gender, address, phone_number, is_verified) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                host.getUserId(), host.getEmail(), host.getPassword(), host.getName(), host.getAge(),
+                host.getGender().name(), host.getAddress(), host.getPhoneNumber(), false);
+        replica.update("INSERT INTO matching_rooms (room_id, user_id, title, description, place, meeting_date, meeting_time, " +
+                        "max_participants, accepted_user_count, pending_user_count) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0)",
+                roomId, host.getUserId(), "광안리 아침 산책", "모임입니다", "부산 광안리",
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 4);
+        emf.getCache().evict(MatchingRoom.class, roomId);
+
+        // 복제 DB 에서 읽은 예전 값은 캐시에 넣지 않음
+        assertEquals(0L, findRoom(roomId, true).getAcceptedUserCount());
+        assertFalse(emf.getCache().contains(MatchingRoom.class, roomId));
+
+        // 주 DB 에서 읽은 값은 캐시에 넣고, 이후 읽기 전용 트랜잭션도 캐시의 값을 사용
+        assertEquals(1L, findRoom(roomId, false).getAcceptedUserCount());
+        assertTrue(emf.getCache().contains(MatchingRoom.class, roomId));
+        assertEquals(1L, findRoom(roomId, true).getAcceptedUserCount());
+    }
+
+    private MatchingRoom findRoom(Long roomId, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> em.find(MatchingRoom.class, roomId));
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject(MARKER_SQL, String.class));
+    }
+
+    private long statements(String dataSourceName) {
+        return meterRegistry.find("sql.statements").tag("datasource", dataSourceName).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
@@ -0,0 +1,68 @@
+package com.busanit501.bootproject.config;
+
+import com.busanit501.bootproject.service.ImageStorageService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 정적 리소스 버전 URL/장기 캐시, 업로드 이미지 ETag 재검증(304) 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResourceCachingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Test
+    void staticResourcesAreVersionedAndImmutable() throws Exception {
+        String versioned = resourceUrlProvider.getForLookupPath("/css/base.css");
+        assertNotEquals("/css/base.css", versioned);
+        assertTrue(versioned.matches("/css/base-[0-9a-f]{32}\\.css"), versioned);
+
+        mockMvc.perform(get(versioned))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")));
+    }
+
+    @Test
+    void uploadsRevalidateWithStrongEtag() throws Exception {
+        String hash = "a".repeat(64);
+        Path file = imageStorageService.getRoot().resolve("aa/aa/" + hash + ".txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "image");
+        String url = imageStorageService.urlOf(file);
+
+        MvcResult first = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + ".txt\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,73 @@
+package com.busanit501.bootproject.config;
+
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 SQL 실행 수, 느린 쿼리 수, MatchingService 메서드 타이머가 지표로 기록되는지 확인
+ * (느린 쿼리 기준을 0ms 로 두어 모든 SQL 을 느린 쿼리로 집계)
+ */
+@SpringBootTest(properties = "sql.metrics.slow-query-threshold-ms=0")
+@AutoConfigureMockMvc
+class SqlMetricsTest {
+
+    private static final String URI = "/matching/list/more";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsStatementsPerEndpointAndServiceTimers() throws Exception {
+        double slowBefore = slowQueries();
+
+        mockMvc.perform(get(URI).sessionAttr(LoginUserPrincipal.SESSION_ATTRIBUTE,
+                        new LoginUserPrincipal(1L, "홍길동", List.of(LoginUserPrincipal.ROLE_USER))))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("sql.request.statements")
+                .tags("method", "GET", "uri", URI)
+                .summary();
+        assertNotNull(statements);
+        assertEquals(1, statements.count());
+        assertTrue(statements.totalAmount() >= 1);
+        assertNotNull(meterRegistry.find("sql.request.time").tags("uri", URI).timer());
+
+        Timer serviceTimer = meterRegistry.find("matching.service").tag("method", "getRoomsPage").timer();
+        assertNotNull(serviceTimer);
+        assertEquals(1, serviceTimer.count());
+
+        assertTrue(slowQueries() > slowBefore);
+    }
+
+    @Test
+    void staticResourcesAreNotCountedAsEndpoints() throws Exception {
+        mockMvc.perform(get("/css/missing.css"));
+
+        assertTrue(meterRegistry.find("sql.request.statements").tag("uri", "/css/**").meters().isEmpty());
+    }
+
+    private double slowQueries() {
+        return meterRegistry.find("sql.slow.queries").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,136 @@
+package com.busanit501.bootproject.controller;
+
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import com.busanit501.bootproject.service.MatchingService;
+import com.busanit501.bootproject.service.PetService;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static com.busanit501.bootproject.TestFixtures.roomDto;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * open-in-view 없이 매칭 화면이 렌더링되는지 확인
+ * 서비스 트랜잭션 밖(컨트롤러, 템플릿)에서 지연 로딩이 일어나면 LazyInitializationException 으로 렌더링이 실패합니다.
+ * (테스트에 @Transactional 을 붙이면 요청이 테스트 트랜잭션을 함께 쓰게 되어 지연 로딩이 가려지므로 사용하지 않음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LazyLoadingRenderTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    private User host;
+    private User viewer;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        host = saveUser("방장");
+        Pet hostPet = savePet(host);
+        User applicant = saveUser("신청자");
+        Pet applicantPet = savePet(applicant);
+        User member = saveUser("참가자");
+        Pet memberPet = savePet(member);
+        viewer = saveUser("방문자");
+        savePet(viewer);
+
+        roomId = matchingService.createRoom(roomDto("광안리 저녁 산책", 4, hostPet), host.getUserId());
+        matchingService.applyRoom(roomId, applicant.getUserId(), List.of(applicantPet.getPetId()));
+        matchingService.applyRoom(roomId, member.getUserId(), List.of(memberPet.getPetId()));
+        matchingService.acceptParticipant(roomId, member.getUserId());
+    }
+
+    @Test
+    void openInViewIsDisabled() {
+        assertTrue(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+        // 서비스가 반환한 엔티티의 지연 연관은 트랜잭션 밖에서 읽을 수 없음 (아래 화면 검사가 의미 있음)
+        Pet pet = petService.findAllByUserId(viewer.getUserId()).get(0);
+        assertThrows(LazyInitializationException.class, () -> pet.getUser().getName());
+    }
+
+    @Test
+    void rendersListPages() throws Exception {
+        mockMvc.perform(as(viewer, get("/matching/list").param("query", "광안리")))
+                .andExpect(status().isOk())
+                .andExpect(view().name("matching/list"));
+        mockMvc.perform(as(viewer, get("/matching/list/more")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rendersDetailForHostAndVisitor() throws Exception {
+        mockMvc.perform(as(host, get("/matching/detail/{id}", roomId)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("matching/detail"))
+                .andExpect(model().attribute("pendingMap", aMapWithSize(1)))
+                .andExpect(model().attribute("acceptedMap", aMapWithSize(2)));
+
+        mockMvc.perform(as(viewer, get("/matching/detail/{id}", roomId)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("matching/detail"))
+                .andExpect(model().attributeExists("userPets"));
+    }
+
+    @Test
+    void rendersCreateAndEditForms() throws Exception {
+        mockMvc.perform(as(host, get("/matching/create")))
+                .andExpect(status().isOk())
+                .andExpect(view().name("matching/create"));
+        mockMvc.perform(as(host, get("/matching/edit/{id}", roomId)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("matching/edit"));
+        mockMvc.perform(as(viewer, get("/matching/edit/{id}", roomId)))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private MockHttpServletRequestBuilder as(User user, MockHttpServletRequestBuilder request) {
+        return request.sessionAttr(LoginUserPrincipal.SESSION_ATTRIBUTE, LoginUserPrincipal.from(user));
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(newUser(name));
+    }
+
+    private Pet savePet(User owner) {
+        return petRepository.save(newPet(owner));
+    }
+}
@@ -0,0 +1,116 @@
+package com.busanit501.bootproject.controller;
+
+import com.busanit501.bootproject.service.ImageStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 업로드 이미지 전송: Range(206/416), If-Range, 축소본 대신 원본 전송 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UploadControllerTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = imageStorageService.getRoot().resolve("bb/bb/" + "b".repeat(64) + ".jpg");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, CONTENT);
+        url = imageStorageService.urlOf(file);
+    }
+
+    @Test
+    void servesRequestedRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 5))
+                .andExpect(content().string("56789"));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("hij"));
+    }
+
+    @Test
+    void staleIfRangeAndUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=5-9").header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=50-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    void ifRangeDateMustMatchLastModifiedExactly() {
+        long lastModified = 1_700_000_000_123L;
+        String etag = "\"abc\"";
+        String sameSecond = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochSecond(lastModified / 1000).atZone(ZoneOffset.UTC));
+        String later = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochSecond(lastModified / 1000 + 60).atZone(ZoneOffset.UTC));
+
+        assertTrue(UploadController.isRangeApplicable(null, etag, lastModified));
+        assertTrue(UploadController.isRangeApplicable(etag, etag, lastModified));
+        assertFalse(UploadController.isRangeApplicable("W/" + etag, etag, lastModified));
+        assertTrue(UploadController.isRangeApplicable(sameSecond, etag, lastModified));
+        // 더 늦은 날짜는 다른 내용의 사본일 수 있으므로 전체 전송
+        assertFalse(UploadController.isRangeApplicable(later, etag, lastModified));
+        assertFalse(UploadController.isRangeApplicable("not a date", etag, lastModified));
+    }
+
+    @Test
+    void missingVariantFallsBackToOriginal() throws Exception {
+        mockMvc.perform(get(url.replace(".jpg", "_list.jpg")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(content().string(CONTENT));
+
+        mockMvc.perform(get("/upload/cc/cc/missing.jpg"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void parseRange() {
+        assertArrayEquals(new long[]{0, 99}, UploadController.parseRange("bytes=0-", 100));
+        assertArrayEquals(new long[]{90, 99}, UploadController.parseRange("bytes=90-200", 100));
+        assertArrayEquals(new long[]{0, 99}, UploadController.parseRange("bytes=-500", 100));
+        assertNull(UploadController.parseRange("bytes=0-1,5-6", 100));
+        assertNull(UploadController.parseRange("bytes=9-1", 100));
+        assertNull(UploadController.parseRange("items=0-1", 100));
+        assertSame(UploadController.parseRange("bytes=100-", 100), UploadController.parseRange("bytes=-0", 100));
+    }
+}
@@ -0,0 +1,121 @@
+package com.busanit501.bootproject.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Flyway 도입 전(ddl-auto=update 로 만든) 운영 DB 에서 마이그레이션을 끝까지 적용할 수 있는지 확인
+ * 빈 DB 에서의 마이그레이션은 다른 모든 @SpringBootTest 가 검증하므로 여기서는 기존 DB 만 다룹니다.
+ * (운영과 같은 baseline-on-migrate, baseline-version=0 설정)
+ */
+class FlywayBaselineMigrationTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 DB
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:ddl-auto-" + UUID.randomUUID()
+                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/ddl-auto-schema.sql")).execute(dataSource);
+    }
+
+    @Test
+    void migratesDdlAutoSchemaToHead() {
+        insertUsersAndRoom();
+        // 유니크 키가 없던 때 같은 펫으로 두 번 신청된 행 포함
+        jdbcTemplate.update("INSERT INTO room_participants (participant_id, status, matching_room_id, pet_id, user_id) " +
+                "VALUES (1, 'Accepted', 1, 1, 1), (2, 'Pending', 1, 2, 2), (3, 'Pending', 1, 2, 2)");
+        jdbcTemplate.update("INSERT INTO calendar (schedule_name, status, walk_date, walk_place, walk_time, user_id) " +
+                "VALUES ('산책', 'SCHEDULED', DATE '2024-01-01', '부산', TIME '09:00:00', 1)");
+
+        Flyway flyway = flyway(null);
+        flyway.migrate();
+        assertEquals(0, flyway.info().pending().length);
+
+        // 중복 신청은 먼저 신청한 행만 남고, 같은 펫으로 다시 신청할 수 없음
+        assertEquals(2, count("SELECT COUNT(*) FROM room_participants"));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO room_participants (status, matching_room_id, pet_id, user_id) VALUES ('Pending', 1, 2, 2)"));
+
+        // 카운터 컬럼이 추가되고 기존 참가 상태로 채워짐
+        assertEquals(1, count("SELECT accepted_user_count FROM matching_rooms WHERE room_id = 1"));
+        assertEquals(1, count("SELECT pending_user_count FROM matching_rooms WHERE room_id = 1"));
+
+        // 기존 일정은 매칭방 없이 유지되고, 매칭방 일정을 저장할 수 있음
+        assertEquals(1, count("SELECT COUNT(*) FROM calendar WHERE matching_room_id IS NULL"));
+        jdbcTemplate.update("INSERT INTO calendar (matching_room_id, schedule_name, status, walk_date, walk_place, walk_time, user_id) " +
+                "VALUES (1, '산책', 'SCHEDULED', DATE '2024-01-02', '부산', TIME '09:00:00', 2)");
+        // 같은 매칭방 일정은 날짜가 달라도 사용자당 하나
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO calendar (matching_room_id, schedule_name, status, walk_date, walk_place, walk_time, user_id) " +
+                        "VALUES (1, '산책', 'SCHEDULED', DATE '2024-01-03', '부산', TIME '10:00:00', 2)"));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM cache_invalidation"));
+    }
+
+    @Test
+    void collapsesRoomSchedulesBeforeKeyingOnUserAndRoom() {
+        insertUsersAndRoom();
+        // (사용자, 매칭방, 날짜, 시간) 키였던 때 일정 확정을 다시 해서 날짜별로 쌓인 행
+        flyway("9").migrate();
+        jdbcTemplate.update("INSERT INTO calendar (schedule_id, matching_room_id, schedule_name, status, walk_date, " +
+                "walk_place, walk_time, user_id) VALUES " +
+                "(1, 1, '산책', 'SCHEDULED', DATE '2024-01-01', '부산', TIME '09:00:00', 2), " +
+                "(2, 1, '산책', 'SCHEDULED', DATE '2024-01-05', '부산', TIME '10:00:00', 2), " +
+                "(3, 1, '산책', 'SCHEDULED', DATE '2024-01-01', '부산', TIME '09:00:00', 1), " +
+                "(4, NULL, '산책', 'SCHEDULED', DATE '2024-01-01', '부산', TIME '09:00:00', 2)");
+
+        flyway(null).migrate();
+
+        // 사용자별로 마지막에 확정한 일정만 남고, 매칭방 없는 일정은 그대로
+        assertEquals(3, count("SELECT COUNT(*) FROM calendar"));
+        assertEquals(2, count("SELECT schedule_id FROM calendar WHERE user_id = 2 AND matching_room_id = 1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM calendar WHERE user_id = 2 AND matching_room_id IS NULL"));
+    }
+
+    private void insertUsersAndRoom() {
+        jdbcTemplate.update("INSERT INTO users (user_id, address, age, email, gender, is_verified, name, password, phone_number) " +
+                "VALUES (1, '부산', 30, 'host@test.com', 'MALE', 0, '방장', '1234', '010-1'), " +
+                "(2, '부산', 30, 'guest@test.com', 'FEMALE', 0, '참가자', '1234', '010-2')");
+        jdbcTemplate.update("INSERT INTO pets (pet_id, age, gender, is_default, name, personality, type, weight, user_id) " +
+                "VALUES (1, 2, 'FEMALE', 1, '보리', '활발함', '시바견', 8.0, 1), " +
+                "(2, 3, 'MALE', 1, '콩이', '온순함', '푸들', 4.0, 2)");
+        jdbcTemplate.update("INSERT INTO matching_rooms (room_id, description, max_participants, meeting_date, meeting_time, " +
+                "place, title, user_id) VALUES (1, '모임입니다', 4, DATE '2024-01-01', TIME '09:00:00', '부산 광안리', '산책', 1)");
+    }
+
+    /**
+     * 운영과 같은 설정의 Flyway (target 이 null 이면 마지막 버전까지)
+     */
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
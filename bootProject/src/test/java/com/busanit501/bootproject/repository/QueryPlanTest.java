@@ -0,0 +1,306 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.config.DataSourceConfig;
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 로 만든 스키마에서 저장소의 자주 쓰는 조회가 인덱스를 사용하는지 EXPLAIN 으로 검증
+ * (내장 H2 MariaDB 모드, 실행 계획에 tableScan 이 있으면 전체 스캔)
+ *
+ * 각 저장소 메서드를 롤백되는 트랜잭션 안에서 실제로 호출하고, 그동안 datasource-proxy 로
+ * Hibernate 가 만든 SQL 과 바인딩한 파라미터를 잡아 그대로 EXPLAIN 합니다.
+ * (엔티티 매핑이나 JPQL 이 바뀌어도 실제 실행되는 SQL 의 실행 계획을 검사)
+ * 전체 행을 읽는 것이 목적인 조회는 제외합니다:
+ * findAllRoomIdAndPetTypes, findAllProfilePictures, rebuildParticipantCounts (재계산/정리 작업),
+ * searchRoomsByQuery, findByNameContaining (앞쪽 % LIKE, 역색인 검색으로 대체),
+ * findLatestRooms (PK 역순 + LIMIT, MariaDB 는 PK 를 뒤에서부터 읽고 멈춤)
+ */
+@SpringBootTest
+class QueryPlanTest {
+
+    private static final String FULL_SCAN = "tablescan";
+
+    // 없는 ID (쿼리 캐시에 남은 결과 없이 항상 DB 를 조회하도록)
+    private static final Long ID = 987_654_321L;
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    @Qualifier(DataSourceConfig.WRITE_DATA_SOURCE)
+    private DataSource writeDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RoomParticipantRepository participantRepository;
+
+    @Autowired
+    private MatchingRoomRepository roomRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    private final SqlCapture capture = new SqlCapture();
+
+    /**
+     * 검사할 저장소 호출
+     */
+    @FunctionalInterface
+    interface Finder {
+        void call(QueryPlanTest test);
+    }
+
+    static Stream<Arguments> hotFinders() {
+        return Stream.of(
+                // RoomParticipantRepository
+                finder("findAllByMatchingRoomAndUser",
+                        t -> t.participantRepository.findAllByMatchingRoomAndUser(t.room(), t.user())),
+                finder("deleteAllByMatchingRoomAndUser",
+                        t -> t.participantRepository.deleteAllByMatchingRoomAndUser(t.room(), t.user())),
+                finder("findAllByMatchingRoom",
+                        t -> t.participantRepository.findAllByMatchingRoom(t.room())),
+                finder("findAllByMatchingRoom_RoomId",
+                        t -> t.participantRepository.findAllByMatchingRoom_RoomId(ID)),
+                finder("countByMatchingRoom",
+                        t -> t.participantRepository.countByMatchingRoom(t.room())),
+                finder("deleteAllByMatchingRoom",
+                        t -> t.participantRepository.deleteAllByMatchingRoom(t.room())),
+                finder("findAllByMatchingRoom_RoomIdAndStatus",
+                        t -> t.participantRepository.findAllByMatchingRoom_RoomIdAndStatus(
+                                ID, RoomParticipant.ParticipantStatus.Accepted)),
+                finder("findAllByMatchingRoomAndStatus",
+                        t -> t.participantRepository.findAllByMatchingRoomAndStatus(
+                                t.room(), RoomParticipant.ParticipantStatus.Pending)),
+                finder("countDistinctUserByMatchingRoomAndStatus",
+                        t -> t.participantRepository.countDistinctUserByMatchingRoomAndStatus(
+                                t.room(), RoomParticipant.ParticipantStatus.Accepted)),
+                finder("changeStatus",
+                        t -> t.participantRepository.changeStatus(ID, ID,
+                                RoomParticipant.ParticipantStatus.Pending, RoomParticipant.ParticipantStatus.Accepted)),
+                finder("findAllWithPetAndUserByRoomIds",
+                        t -> t.participantRepository.findAllWithPetAndUserByRoomIds(List.of(ID, ID + 1, ID + 2))),
+                finder("findPetTypesByRoomId",
+                        t -> t.participantRepository.findPetTypesByRoomId(ID)),
+
+                // MatchingRoomRepository
+                finder("findRoomsBefore",
+                        t -> t.roomRepository.findRoomsBefore(ID, PageRequest.of(0, 12))),
+                finder("findAllWithUserByRoomIdIn",
+                        t -> t.roomRepository.findAllWithUserByRoomIdIn(List.of(ID, ID + 1, ID + 2))),
+                finder("findDetailById",
+                        t -> t.roomRepository.findDetailById(ID)),
+                finder("adjustParticipantCounts",
+                        t -> t.roomRepository.adjustParticipantCounts(ID, 0, 1)),
+                finder("reserveAcceptedSeat",
+                        t -> t.roomRepository.reserveAcceptedSeat(ID, 1)),
+                finder("countOpenRooms",
+                        t -> t.roomRepository.countOpenRooms(TODAY)),
+                finder("sumPendingUserCount",
+                        t -> t.roomRepository.sumPendingUserCount(TODAY)),
+                finder("MatchingRoomRepository.countByProfilePicture",
+                        t -> t.roomRepository.countByProfilePicture("/upload/a.jpg")),
+
+                // PetRepository
+                finder("findByUserAndIsDefault",
+                        t -> t.petRepository.findByUserAndIsDefault(t.user(), true)),
+                finder("findAllByUser_UserId",
+                        t -> t.petRepository.findAllByUser_UserId(ID)),
+                finder("PetRepository.countByProfilePicture",
+                        t -> t.petRepository.countByProfilePicture("/upload/a.jpg")),
+
+                // CalendarRepository
+                finder("findByUserAndSchedulename",
+                        t -> t.calendarRepository.findByUserAndSchedulename(t.user(), "산책")),
+
+                // UserRepository
+                finder("findByEmail", t -> t.userRepository.findByEmail("a@test.com")),
+                finder("existsByEmail", t -> t.userRepository.existsByEmail("a@test.com")),
+                finder("findByPhoneNumber", t -> t.userRepository.findByPhoneNumber("010")),
+                finder("findByAgeGreaterThanEqual", t -> t.userRepository.findByAgeGreaterThanEqual(30L)),
+                finder("updatePassword", t -> t.userRepository.updatePassword(ID, "old", "new")),
+
+                // CacheInvalidationRepository
+                finder("findByIdGreaterThanOrderByIdAsc",
+                        t -> t.cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(10L)),
+                finder("deleteCreatedBefore",
+                        t -> t.cacheInvalidationRepository.deleteCreatedBefore(TODAY.atStartOfDay()))
+        );
+    }
+
+    private static Arguments finder(String name, Finder finder) {
+        return Arguments.of(name, finder);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ((ProxyDataSource) writeDataSource).getProxyConfig().getQueryListener().addListener(capture);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((ProxyDataSource) writeDataSource).getProxyConfig().getQueryListener().getListeners().remove(capture);
+    }
+
+    @Test
+    void schemaIsManagedByFlyway() {
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.info().applied().length >= 4);
+    }
+
+    @Test
+    void detectsFullScan() {
+        // 인덱스 없는 컬럼 조건은 전체 스캔으로 표시되어야 아래 검사가 의미 있음
+        assertTrue(explain(new CapturedSql("SELECT * FROM pets WHERE personality = ?", new Object[]{"활발함"}))
+                .contains(FULL_SCAN));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotFinders")
+    void hotQueryUsesIndex(String name, Finder finder) {
+        List<CapturedSql> statements = run(finder);
+
+        assertFalse(statements.isEmpty(), name + " executed no SQL");
+        for (CapturedSql statement : statements) {
+            String plan = explain(statement);
+            assertFalse(plan.contains(FULL_SCAN), name + " does a full scan:\n" + statement.sql() + "\n" + plan);
+        }
+    }
+
+    /**
+     * 롤백되는 트랜잭션 안에서 finder 를 호출하고 그동안 이 스레드에서 실행된 SQL 을 반환
+     */
+    private List<CapturedSql> run(Finder finder) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            capture.start();
+            try {
+                finder.call(this);
+            } finally {
+                capture.stop();
+            }
+            status.setRollbackOnly();
+        });
+        return capture.statements();
+    }
+
+    private MatchingRoom room() {
+        return em.getReference(MatchingRoom.class, ID);
+    }
+
+    private User user() {
+        return em.getReference(User.class, ID);
+    }
+
+    private String explain(CapturedSql statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.args())
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 실행된 SQL 과 바인딩 값 (파라미터 순서대로)
+     */
+    record CapturedSql(String sql, Object[] args) {
+    }
+
+    /**
+     * start ~ stop 사이에 현재 스레드에서 실행된 SQL 을 모으는 리스너
+     * (같은 DataSource 를 쓰는 다른 스레드의 스케줄 작업 SQL 은 모으지 않음)
+     */
+    static final class SqlCapture implements QueryExecutionListener {
+
+        private final ThreadLocal<List<CapturedSql>> current = new ThreadLocal<>();
+        private List<CapturedSql> statements = List.of();
+
+        void start() {
+            current.set(new ArrayList<>());
+        }
+
+        void stop() {
+            statements = current.get();
+            current.remove();
+        }
+
+        List<CapturedSql> statements() {
+            return statements;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<CapturedSql> target = current.get();
+            if (target == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+                target.add(new CapturedSql(queryInfo.getQuery(),
+                        parameters.isEmpty() ? new Object[0] : bindValues(parameters.get(0))));
+            }
+        }
+
+        private static Object[] bindValues(List<ParameterSetOperation> operations) {
+            Object[] values = new Object[operations.size()];
+            for (ParameterSetOperation operation : operations) {
+                Object[] args = operation.getArgs();
+                int index = (Integer) args[0];
+                values[index - 1] = "setNull".equals(operation.getMethod().getName()) ? null : args[1];
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.busanit501.bootproject.repository;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.service.MatchingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static com.busanit501.bootproject.TestFixtures.roomDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자/펫/매칭방 2차 캐시와 펫 목록 쿼리 캐시가 적중하고, 저장 시 무효화되는지 검증
+ * (저장소 호출마다 트랜잭션과 영속성 컨텍스트가 새로 열리므로 1차 캐시의 영향은 없음)
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private MatchingRoomRepository roomRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void userLookupIsServedFromSecondLevelCache() {
+        User user = userRepository.save(newUser("캐시"));
+        userRepository.findById(user.getUserId()); // 캐시에 없으면 여기서 적재
+
+        statistics.clear();
+        User cached = userRepository.findById(user.getUserId()).orElseThrow();
+
+        assertEquals(user.getEmail(), cached.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void petListQueryIsCachedAndInvalidatedOnWrite() {
+        User owner = userRepository.save(newUser("캐시"));
+        petRepository.save(newPet(owner, "포메"));
+        petRepository.findAllByUser_UserId(owner.getUserId());
+
+        statistics.clear();
+        List<Pet> cached = petRepository.findAllByUser_UserId(owner.getUserId());
+        assertEquals(1, cached.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        // pets 테이블이 변경되면 이전 쿼리 결과는 사용하지 않음
+        petRepository.save(newPet(owner, "말티즈"));
+        statistics.clear();
+        List<Pet> reloaded = petRepository.findAllByUser_UserId(owner.getUserId());
+        assertEquals(2, reloaded.size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void participantCounterChangeEvictsOnlyThatRoom() {
+        User host = userRepository.save(newUser("방장"));
+        Pet hostPet = petRepository.save(newPet(host));
+        Long roomId = matchingService.createRoom(roomDto("광안리 아침 산책", 4, hostPet), host.getUserId());
+        Long otherRoomId = matchingService.createRoom(roomDto("해운대 저녁 산책", 4, hostPet), host.getUserId());
+        roomRepository.findById(roomId);
+        roomRepository.findById(otherRoomId);
+        assertTrue(emf.getCache().contains(MatchingRoom.class, otherRoomId));
+
+        User applicant = userRepository.save(newUser("신청자"));
+        Pet applicantPet = petRepository.save(newPet(applicant));
+        matchingService.applyRoom(roomId, applicant.getUserId(), List.of(applicantPet.getPetId()));
+
+        // 카운터가 바뀐 방만 캐시에서 빠지고 (다음 조회 때 새 값), 다른 방은 그대로 캐시에서 읽음
+        assertFalse(emf.getCache().contains(MatchingRoom.class, roomId));
+        assertTrue(emf.getCache().contains(MatchingRoom.class, otherRoomId));
+        assertEquals(1L, roomRepository.findById(roomId).orElseThrow().getPendingUserCount());
+    }
+}
@@ -0,0 +1,123 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.Calendar;
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.repository.CalendarRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 일정 확정 시 캘린더 일정이 호스트와 승인된 참가자에게 한 번씩만 생성되는지 검증
+ * (일정 확정은 방장만 가능)
+ */
+@SpringBootTest
+@Transactional
+class CalendarServiceTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void createSchedulesUpsertsWithoutDuplicates() {
+        User host = persistUser("host");
+        MatchingRoom room = newRoom(host);
+        em.persist(room);
+        // 호스트는 펫 2마리로 참가, 게스트 2명 승인, 1명 대기
+        persistParticipant(room, host, RoomParticipant.ParticipantStatus.Accepted);
+        persistParticipant(room, host, RoomParticipant.ParticipantStatus.Accepted);
+        persistParticipant(room, persistUser("guest1"), RoomParticipant.ParticipantStatus.Accepted);
+        persistParticipant(room, persistUser("guest2"), RoomParticipant.ParticipantStatus.Accepted);
+        persistParticipant(room, persistUser("guest3"), RoomParticipant.ParticipantStatus.Pending);
+        em.flush();
+
+        long before = calendarRepository.count();
+
+        assertEquals(3, calendarService.createSchedules(room.getRoomId()));
+        assertEquals(before + 3, calendarRepository.count());
+
+        // 같은 확정이 다시 처리되어도 일정이 늘어나지 않고, 바뀐 방 제목만 반영됨
+        room.setTitle("광안리 야경 산책");
+        em.flush();
+        assertEquals(3, calendarService.createSchedules(room.getRoomId()));
+        assertEquals(before + 3, calendarRepository.count());
+        assertTrue(calendarRepository.findByUserAndSchedulename(host, "광안리 야경 산책").isPresent());
+
+        // 모임 날짜/시간을 바꾼 뒤 다시 확정하면 기존 일정이 새 날짜로 옮겨짐 (새 일정이 생기지 않음)
+        LocalDate newDate = room.getMeetingDate().plusDays(7);
+        room.setMeetingDate(newDate);
+        room.setMeetingTime(LocalTime.of(20, 30));
+        em.flush();
+        assertEquals(3, calendarService.createSchedules(room.getRoomId()));
+        assertEquals(before + 3, calendarRepository.count());
+        em.clear();
+        Calendar moved = calendarRepository.findByUserAndSchedulename(host, "광안리 야경 산책").orElseThrow();
+        assertEquals(newDate, moved.getWalkDate());
+        assertEquals(LocalTime.of(20, 30), moved.getWalkTime());
+    }
+
+    @Test
+    void onlyHostCanConfirmSchedule() {
+        User host = persistUser("host");
+        User guest = persistUser("guest");
+        MatchingRoom room = newRoom(host);
+        em.persist(room);
+        persistParticipant(room, guest, RoomParticipant.ParticipantStatus.Accepted);
+        em.flush();
+
+        assertThrows(RuntimeException.class, () -> matchingService.confirmSchedule(room.getRoomId(), guest.getUserId()));
+    }
+
+    private MatchingRoom newRoom(User host) {
+        return MatchingRoom.builder()
+                .title("광안리 저녁 산책")
+                .description("함께 산책해요")
+                .place("부산 광안리")
+                .meetingDate(LocalDate.now().plusDays(1))
+                .meetingTime(LocalTime.of(19, 0))
+                .maxParticipants(5L)
+                .user(host)
+                .build();
+    }
+
+    private User persistUser(String name) {
+        User user = newUser(name);
+        em.persist(user);
+        return user;
+    }
+
+    private void persistParticipant(MatchingRoom room, User user, RoomParticipant.ParticipantStatus status) {
+        Pet pet = newPet(user, "포메");
+        em.persist(pet);
+
+        em.persist(RoomParticipant.builder()
+                .matchingRoom(room)
+                .user(user)
+                .pet(pet)
+                .status(status)
+                .build());
+    }
+}
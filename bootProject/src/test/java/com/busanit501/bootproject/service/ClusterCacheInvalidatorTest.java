@@ -0,0 +1,99 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.CacheInvalidation;
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.enums.CacheRegion;
+import com.busanit501.bootproject.repository.CacheInvalidationRepository;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static com.busanit501.bootproject.TestFixtures.roomDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 다른 노드가 남긴 무효화 기록만 반영되어 2차 캐시, 검색 색인이 DB 기준으로 갱신되는지 확인
+ */
+// 예약 폴링은 시작 시 한 번만 실행되도록 하고 테스트에서 직접 poll() 호출
+@SpringBootTest(properties = "cluster.cache-sync.poll-interval=3600000")
+@ActiveProfiles("cluster")
+class ClusterCacheInvalidatorTest {
+
+    @Autowired
+    private ClusterCacheInvalidator invalidator;
+
+    @Autowired
+    private CacheInvalidationRepository invalidationRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private RoomSearchService roomSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void remoteChangesEvictLocalCaches() {
+        User host = userRepository.save(newUser("host"));
+        Pet hostPet = petRepository.save(newPet(host));
+        Long roomId = matchingService.createRoom(roomDto("광안리 아침 산책", 4, hostPet), host.getUserId());
+
+        // 자기 노드의 변경은 커밋과 함께 기록되지만 폴링 시 다시 반영하지 않음
+        List<CacheInvalidation> own = invalidationRepository.findByIdGreaterThanOrderByIdAsc(0L).stream()
+                .filter(record -> record.getEntityId().equals(roomId))
+                .toList();
+        assertEquals(2, own.size());
+        assertTrue(own.stream().allMatch(record -> record.getOriginNode().equals(invalidator.getNodeId())));
+        invalidator.poll();
+
+        matchingService.getRoomById(roomId);
+        assertTrue(emf.getCache().contains(MatchingRoom.class, roomId));
+
+        // 다른 노드가 제목을 바꾸고 무효화 기록을 남긴 상황
+        jdbcTemplate.update("UPDATE matching_rooms SET title = ? WHERE room_id = ?", "해운대 야간 산책", roomId);
+        invalidationRepository.save(remoteRecord(CacheRegion.ROOM, roomId));
+        invalidationRepository.save(remoteRecord(CacheRegion.KEYWORD, roomId));
+
+        assertEquals(2, invalidator.poll());
+        assertFalse(emf.getCache().contains(MatchingRoom.class, roomId));
+        assertEquals("해운대 야간 산책", matchingService.getRoomById(roomId).getTitle());
+        assertTrue(roomSearchService.search("야간 산책", 10).contains(roomId));
+
+        // 이미 반영한 기록은 커서가 앞으로 가기 전이라도 다시 반영하지 않음
+        assertEquals(0, invalidator.poll());
+    }
+
+    private CacheInvalidation remoteRecord(CacheRegion region, Long roomId) {
+        return CacheInvalidation.builder()
+                .region(region)
+                .entityId(roomId)
+                .originNode("other-node")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
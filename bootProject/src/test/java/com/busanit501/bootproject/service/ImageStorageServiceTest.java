@@ -0,0 +1,112 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.enums.ImageVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 업로드 원본 저장과 축소본 생성 검증 (축소본 생성은 호출 스레드에서 바로 실행)
+ */
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storesOriginalAndCreatesSmallerVariants() throws IOException {
+        ImageStorageService service = new ImageStorageService(root.toString(), Runnable::run);
+        byte[] original = jpeg(2000, 1500);
+
+        String url = service.store(new MockMultipartFile("imageFile", "walk.JPG", "image/jpeg", original));
+
+        assertTrue(url.startsWith(ImageStorageService.URL_PREFIX));
+        assertTrue(url.endsWith(".jpg"));
+        String fileName = url.substring(ImageStorageService.URL_PREFIX.length());
+        assertArrayEquals(original, Files.readAllBytes(root.resolve(fileName)));
+
+        BufferedImage list = ImageIO.read(root.resolve(ImageVariant.LIST.pathOf(fileName)).toFile());
+        assertEquals(ImageVariant.LIST.getMaxWidth(), list.getWidth());
+        assertEquals(ImageVariant.LIST.getMaxHeight(), list.getHeight());
+        BufferedImage detail = ImageIO.read(root.resolve(ImageVariant.DETAIL.pathOf(fileName)).toFile());
+        assertEquals(ImageVariant.DETAIL.getMaxWidth(), detail.getWidth());
+
+        // 해시 앞 4글자로 나눈 폴더에 원본과 축소본만 남고 임시 파일은 남지 않음
+        assertTrue(fileName.matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg"));
+        try (var files = Files.list(root.resolve(fileName).getParent())) {
+            assertEquals(3, files.count());
+        }
+        try (var files = Files.list(root)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void sameContentIsStoredOnce() throws IOException {
+        ImageStorageService service = new ImageStorageService(root.toString(), Runnable::run);
+        byte[] image = jpeg(640, 480);
+
+        String first = service.store(new MockMultipartFile("imageFile", "a.jpg", "image/jpeg", image));
+        String second = service.store(new MockMultipartFile("imageFile", "b.jpg", "image/jpeg", image));
+        String other = service.store(new MockMultipartFile("imageFile", "c.jpg", "image/jpeg", jpeg(640, 481)));
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+
+        assertTrue(service.delete(first));
+        assertFalse(Files.exists(service.resolve(first)));
+        assertFalse(Files.exists(service.resolve(ImageStorageService.variantUrl(first, ImageVariant.LIST))));
+        assertTrue(Files.exists(service.resolve(other)));
+        assertNull(service.resolve("/upload/../secret.txt"));
+    }
+
+    @Test
+    void smallImageIsNotEnlarged() throws IOException {
+        ImageStorageService service = new ImageStorageService(root.toString(), Runnable::run);
+
+        String url = service.store(new MockMultipartFile("imageFile", "icon.png", "image/png", png(100, 80)));
+
+        String fileName = url.substring(ImageStorageService.URL_PREFIX.length());
+        BufferedImage list = ImageIO.read(root.resolve(ImageVariant.LIST.pathOf(fileName)).toFile());
+        assertEquals(100, list.getWidth());
+        assertEquals(80, list.getHeight());
+    }
+
+    @Test
+    void variantUrlOnlyAppliesToUploadedImages() {
+        assertEquals("/upload/abc_list.jpg", ImageStorageService.variantUrl("/upload/abc.jpg", ImageVariant.LIST));
+        assertEquals("/img/default.svg", ImageStorageService.variantUrl("/img/default.svg", ImageVariant.LIST));
+        assertNull(ImageStorageService.variantUrl(null, ImageVariant.LIST));
+        assertEquals("/upload/abc.jpg", ImageVariant.originalOf("/upload/abc_detail.jpg"));
+        assertNull(ImageVariant.originalOf("/upload/abc.jpg"));
+        assertFalse(ImageVariant.LIST.pathOf("noext").contains("."));
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        return encode(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        return encode(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png");
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,51 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 메모리 역색인 검색의 부분 일치, 순위, 갱신/삭제 동작 검증 (DB 없이 실행)
+ */
+class InvertedIndexRoomSearchServiceTest {
+
+    private InvertedIndexRoomSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new InvertedIndexRoomSearchService(null);
+        searchService.index(new RoomSearchDocument(1L, "부산 해운대 강아지 산책 모임", "매너 지참",
+                "부산 해운대 바닷가", List.of("포메", "닥스훈트")));
+        searchService.index(new RoomSearchDocument(2L, "강남 강아지 산책 모임", "게임하며 활동",
+                "서울 강남역 공원", List.of("푸들")));
+        searchService.index(new RoomSearchDocument(3L, "광주 반려견 산책 모임", "해운대 여행 후기 공유",
+                "광주 서구 강아지 공원", List.of("말티즈")));
+    }
+
+    @Test
+    void matchesKoreanSubstringsWithoutSpaces() {
+        assertEquals(List.of(2L), searchService.search("강남역", 10));
+        assertEquals(List.of(1L), searchService.search("닥스", 10));
+    }
+
+    @Test
+    void ranksTitleAndPlaceMatchesAboveDescriptionMatches() {
+        List<Long> result = searchService.search("해운대", 10);
+        assertEquals(List.of(1L, 3L), result);
+    }
+
+    @Test
+    void reindexAndRemoveUpdateResults() {
+        searchService.index(new RoomSearchDocument(2L, "강남 고양이 모임", "게임하며 활동",
+                "서울 신사동", List.of("코숏")));
+        assertTrue(searchService.search("강남역", 10).isEmpty());
+
+        searchService.remove(1L);
+        assertEquals(List.of(3L), searchService.search("해운대", 10));
+    }
+}
@@ -0,0 +1,86 @@
+package com.busanit501.bootproject.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 단일 패스 토크나이저가 기존 정규식 방식과 같은 단어를 만들고, WordCounter 가 HashMap 과 같은 빈도를 세는지 검증
+ */
+class KeywordTokenizerTest {
+
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer(KeywordTokenizer.DEFAULT_STOPWORDS);
+
+    @Test
+    void splitsLikeLegacyRegex() {
+        assertEquals(List.of("부산", "해운대의", "dogwalk99"),
+                tokenizer.tokenize("  부산 해운대의 The DOG-walk99!  a 가"));
+        // 특수문자, 탭, 자모는 지워지면서 앞뒤 글자가 붙고, 공백만 단어 경계가 됨
+        assertEquals(List.of("산책모임", "놀이"), tokenizer.tokenize("산책!모임 \tㅋㅋ놀이"));
+    }
+
+    @Test
+    void matchesLegacyRegexOnRandomText() {
+        Random random = new Random(42);
+        String alphabet = "abcXYZ019 가나다힣ㄱㅏ!?-_\t.,éK";
+        WordCounter counter = new WordCounter();
+        Map<String, Long> expectedCounts = new HashMap<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+
+            List<String> expected = legacyWords(text.toString());
+            assertEquals(expected, tokenizer.tokenize(text.toString()), "text: " + text);
+
+            tokenizer.count(text.toString(), counter, 1);
+            expected.forEach(word -> expectedCounts.merge(word, 1L, Long::sum));
+        }
+
+        assertEquals(expectedCounts, counter.toMap());
+    }
+
+    @Test
+    void usesConfiguredStopwords() {
+        KeywordTokenizer custom = new KeywordTokenizer(Set.of("산책", " Meet "));
+        assertEquals(List.of("부산", "the"), custom.tokenize("부산 산책 meet the"));
+    }
+
+    @Test
+    void wordCounterRanksAndForgetsZeroCounts() {
+        WordCounter counter = new WordCounter();
+        for (int i = 0; i < 1_000; i++) {
+            counter.add("word" + i, i % 7 + 1);
+        }
+        counter.add("word6", -7); // 빈도 0 -> 집계에서 제외
+
+        List<String> top = counter.topK(3);
+        // 빈도 7 인 단어들 중 사전 순
+        assertEquals(List.of("word104", "word111", "word118"), top);
+        assertEquals(0, counter.get("word6"));
+        assertEquals(999, counter.size());
+        assertTrue(counter.toMap().values().stream().allMatch(count -> count > 0));
+    }
+
+    // 기존 MatchingService.extractWords 와 같은 방식
+    private static List<String> legacyWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase().replaceAll("[^a-z0-9가-힣 ]", "").split("\\s+")) {
+            if (!KeywordTokenizer.DEFAULT_STOPWORDS.contains(word) && word.length() > 1) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
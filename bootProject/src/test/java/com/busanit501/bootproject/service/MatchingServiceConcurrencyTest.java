@@ -0,0 +1,174 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.RoomParticipantRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static com.busanit501.bootproject.TestFixtures.roomDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시에 수백 건의 참가 신청/승인이 들어와도 매칭방 정원을 넘지 않는지 검증하는 스트레스 테스트
+ */
+@Log4j2
+@SpringBootTest
+class MatchingServiceConcurrencyTest {
+
+    private static final int APPLICANTS = 200;
+    private static final int THREADS = 16;
+    private static final long MAX_PARTICIPANTS = 5;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingRoomRepository roomRepository;
+
+    @Autowired
+    private RoomParticipantRepository participantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Test
+    void concurrentApplyAndAcceptNeverExceedCapacity() throws Exception {
+        User host = saveUser();
+        Long roomId = matchingService.createRoom(
+                roomDto("동시성 테스트 모임", MAX_PARTICIPANTS, savePet(host)), host.getUserId());
+
+        List<User> guests = new ArrayList<>();
+        List<Long> guestPetIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            User guest = saveUser();
+            guests.add(guest);
+            guestPetIds.add(savePet(guest).getPetId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long startedAt = System.nanoTime();
+
+        // 1) 모든 게스트가 동시에 참가 신청
+        List<Callable<Void>> applyTasks = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            Long guestId = guests.get(i).getUserId();
+            Long petId = guestPetIds.get(i);
+            applyTasks.add(() -> {
+                matchingService.applyRoom(roomId, guestId, List.of(petId));
+                return null;
+            });
+        }
+        int applied = countSuccesses(executor.invokeAll(applyTasks));
+
+        // 2) 같은 게스트에 대한 중복 클릭까지 포함하여 동시에 승인
+        List<Callable<Void>> acceptTasks = new ArrayList<>();
+        for (User guest : guests) {
+            for (int click = 0; click < 2; click++) {
+                Long guestId = guest.getUserId();
+                acceptTasks.add(() -> {
+                    matchingService.acceptParticipant(roomId, guestId);
+                    return null;
+                });
+            }
+        }
+        int accepted = countSuccesses(executor.invokeAll(acceptTasks));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        int operations = applyTasks.size() + acceptTasks.size();
+        log.info("{} operations in {} ms ({} ops/s)", operations, elapsedMillis,
+                elapsedMillis == 0 ? operations : operations * 1000L / elapsedMillis);
+
+        MatchingRoom room = roomRepository.findById(roomId).orElseThrow();
+        long acceptedUsers = participantRepository
+                .findAllByMatchingRoom_RoomIdAndStatus(roomId, RoomParticipant.ParticipantStatus.Accepted)
+                .stream()
+                .map(rp -> rp.getUser().getUserId())
+                .distinct()
+                .count();
+
+        assertEquals(APPLICANTS, applied);
+        // 호스트 1명 + 승인된 게스트 = 정원
+        assertEquals(MAX_PARTICIPANTS - 1, accepted);
+        assertEquals(MAX_PARTICIPANTS, acceptedUsers);
+        assertEquals(MAX_PARTICIPANTS, room.getAcceptedUserCount());
+        assertEquals(APPLICANTS - (MAX_PARTICIPANTS - 1), room.getPendingUserCount());
+        assertTrue(elapsedMillis < TimeUnit.SECONDS.toMillis(30), "stress run took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void concurrentAppliesBySameUserCountOnce() throws Exception {
+        User host = saveUser();
+        Long roomId = matchingService.createRoom(
+                roomDto("동시성 테스트 모임", MAX_PARTICIPANTS, savePet(host)), host.getUserId());
+
+        // 같은 사용자가 펫 구성을 바꿔 동시에 신청 ((방, 사용자, 펫) 유니크 제약으로는 막히지 않음)
+        User guest = saveUser();
+        List<Callable<Void>> applyTasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long petId = savePet(guest).getPetId();
+            applyTasks.add(() -> {
+                matchingService.applyRoom(roomId, guest.getUserId(), List.of(petId));
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int applied = countSuccesses(executor.invokeAll(applyTasks));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        MatchingRoom room = roomRepository.findById(roomId).orElseThrow();
+        assertEquals(1, applied);
+        assertEquals(1, room.getPendingUserCount());
+        assertEquals(1, participantRepository.findAllByMatchingRoom_RoomIdAndStatus(
+                roomId, RoomParticipant.ParticipantStatus.Pending).size());
+    }
+
+    private int countSuccesses(List<Future<Void>> futures) throws InterruptedException {
+        AtomicInteger successes = new AtomicInteger();
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+                successes.incrementAndGet();
+            } catch (java.util.concurrent.ExecutionException e) {
+                // 정원 초과, 이미 처리된 신청 등 비즈니스 예외는 예상된 실패
+                if (!(e.getCause() instanceof RuntimeException)) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        return successes.get();
+    }
+
+    private User saveUser() {
+        return userRepository.save(newUser("user"));
+    }
+
+    private Pet savePet(User owner) {
+        return petRepository.save(newPet(owner));
+    }
+}
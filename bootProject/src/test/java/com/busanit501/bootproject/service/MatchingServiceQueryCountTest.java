@@ -0,0 +1,148 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.MatchingRoom;
+import com.busanit501.bootproject.domain.Pet;
+import com.busanit501.bootproject.domain.RoomParticipant;
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.MatchingRoomPageDTO;
+import com.busanit501.bootproject.dto.RoomDetailView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.busanit501.bootproject.TestFixtures.newPet;
+import static com.busanit501.bootproject.TestFixtures.newUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매칭방 목록/상세 조회가 방, 참가자 수와 무관하게 고정된 수의 SQL 만 실행하는지 검증
+ */
+@SpringBootTest
+@Transactional
+class MatchingServiceQueryCountTest {
+
+    // 방 목록(호스트 fetch join) 1회 + 참가자 배치 조회(펫, 사용자 fetch join) 1회
+    private static final long EXPECTED_STATEMENTS = 2;
+    // 상세: 방 + 호스트 + 참가자(사용자, 펫) 1회 + 로그인 사용자 펫 목록 1회
+    private static final long EXPECTED_DETAIL_STATEMENTS = 2;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 30})
+    void roomPageUsesFixedNumberOfStatements(int roomCount) {
+        for (int i = 0; i < roomCount; i++) {
+            createRoomWithParticipants(i);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MatchingRoomPageDTO page = matchingService.getRoomsPage(null, roomCount);
+        // 지연 로딩이 남아 있다면 여기서 추가 쿼리가 발생함
+        page.getRooms().forEach(dto -> {
+            dto.getUser().getName();
+            dto.getPets().forEach(pet -> pet.getType());
+        });
+
+        assertEquals(roomCount, page.getRooms().size());
+        assertEquals(EXPECTED_STATEMENTS, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 40})
+    void roomDetailUsesFixedNumberOfStatements(int guestCount) {
+        MatchingRoom room = createRoomWithParticipants(0);
+        for (int i = 0; i < guestCount; i++) {
+            User guest = persistUser("extra" + i);
+            RoomParticipant.ParticipantStatus status = i % 2 == 0
+                    ? RoomParticipant.ParticipantStatus.Accepted : RoomParticipant.ParticipantStatus.Pending;
+            persistParticipant(room, guest, persistPet(guest, "말티즈"), status);
+        }
+        User viewer = persistUser("viewer");
+        persistPet(viewer, "시바견");
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        RoomDetailView detail = matchingService.getRoomDetail(room.getRoomId(), viewer.getUserId());
+        // 화면에서 사용하는 값까지 모두 읽어 지연 로딩 여부 확인
+        detail.getAcceptedMap().forEach((user, pets) -> pets.forEach(pet -> pet.getName()));
+        detail.getPendingMap().forEach((user, pets) -> pets.forEach(pet -> user.getName()));
+        detail.getRoom().getUser().getName();
+
+        assertFalse(detail.isHost());
+        assertFalse(detail.isApplied());
+        assertEquals(1, detail.getUserPets().size());
+        // 호스트 1명 + 짝수 번째 게스트
+        assertEquals(1 + (guestCount + 1) / 2, detail.getAcceptedMap().size());
+        // 기존 게스트 1명 + 홀수 번째 게스트
+        assertEquals(1 + guestCount / 2, detail.getPendingMap().size());
+        assertTrue(detail.getPendingMap().keySet().stream().noneMatch(detail.getAcceptedMap()::containsKey));
+        assertEquals(EXPECTED_DETAIL_STATEMENTS, statistics.getPrepareStatementCount());
+    }
+
+    private MatchingRoom createRoomWithParticipants(int index) {
+        User host = persistUser("host" + index);
+        User guest = persistUser("guest" + index);
+
+        MatchingRoom room = MatchingRoom.builder()
+                .title("부산 강아지 산책 모임 " + index)
+                .description("함께 산책해요")
+                .place("부산 해운대")
+                .meetingDate(LocalDate.now())
+                .meetingTime(LocalTime.of(10, 0))
+                .maxParticipants(4L)
+                .user(host)
+                .build();
+        em.persist(room);
+
+        persistParticipant(room, host, persistPet(host, "포메"), RoomParticipant.ParticipantStatus.Accepted);
+        persistParticipant(room, guest, persistPet(guest, "푸들"), RoomParticipant.ParticipantStatus.Pending);
+        return room;
+    }
+
+    private User persistUser(String name) {
+        User user = newUser(name);
+        em.persist(user);
+        return user;
+    }
+
+    private Pet persistPet(User owner, String type) {
+        Pet pet = newPet(owner, type);
+        em.persist(pet);
+        return pet;
+    }
+
+    private void persistParticipant(MatchingRoom room, User user, Pet pet, RoomParticipant.ParticipantStatus status) {
+        RoomParticipant participant = RoomParticipant.builder()
+                .matchingRoom(room)
+                .user(user)
+                .pet(pet)
+                .status(status)
+                .build();
+        em.persist(participant);
+    }
+}
@@ -0,0 +1,116 @@
+package com.busanit501.bootproject.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 해시/검증, 평문과 이전 비용 해시의 재해시 판정 검증 (테스트 속도를 위해 낮은 비용 사용)
+ */
+class PasswordServiceTest {
+
+    private final BCryptPasswordHasher bcrypt4 = new BCryptPasswordHasher(4);
+    private final Argon2PasswordHasher argon2 = new Argon2PasswordHasher(1024, 1, 1);
+
+    @Test
+    void hashesAndVerifiesWithCurrentAlgorithm() {
+        PasswordService service = service(Argon2PasswordHasher.ALGORITHM, bcrypt4, argon2);
+
+        String hash = service.hash("1234");
+        assertNotEquals("1234", hash);
+        assertTrue(hash.startsWith("$argon2id$"));
+        assertTrue(service.matches("1234", hash));
+        assertFalse(service.matches("4321", hash));
+        assertFalse(service.needsRehash(hash));
+    }
+
+    @Test
+    void legacyPlaintextMatchesOnceAndNeedsRehash() {
+        PasswordService service = new PasswordService(List.of(bcrypt4, argon2), Argon2PasswordHasher.ALGORITHM,
+                Runnable::run, 5000, true);
+
+        assertTrue(service.matches("1234", "1234"));
+        assertFalse(service.matches("12345", "1234"));
+        assertTrue(service.needsRehash("1234"));
+    }
+
+    @Test
+    void plaintextLoginIsOffByDefault() {
+        PasswordService service = service(Argon2PasswordHasher.ALGORITHM, bcrypt4, argon2);
+
+        assertFalse(service.matches("1234", "1234"));
+    }
+
+    @Test
+    void unknownHashFormatIsNeverComparedAsPlaintext() {
+        PasswordService service = new PasswordService(List.of(bcrypt4, argon2), Argon2PasswordHasher.ALGORITHM,
+                Runnable::run, 5000, true);
+        String argon2i = "$argon2i$v=19$m=1024,t=1,p=1$c2FsdHNhbHQ$aGFzaGhhc2g";
+        String truncated = argon2.hash("1234").substring(0, 5);
+
+        // 저장된 문자열을 그대로 입력해도 로그인되지 않음
+        assertFalse(service.matches(argon2i, argon2i));
+        assertFalse(service.matches(truncated, truncated));
+    }
+
+    @Test
+    void changedCostOrAlgorithmStillVerifiesButNeedsRehash() {
+        String oldBcrypt = bcrypt4.hash("1234");
+        String oldArgon2 = argon2.hash("1234");
+
+        // bcrypt 강도를 올린 경우
+        PasswordService stronger = service(BCryptPasswordHasher.ALGORITHM, new BCryptPasswordHasher(5), argon2);
+        assertTrue(stronger.matches("1234", oldBcrypt));
+        assertTrue(stronger.needsRehash(oldBcrypt));
+        // 다른 알고리즘으로 저장된 해시도 검증은 가능
+        assertTrue(stronger.matches("1234", oldArgon2));
+        assertTrue(stronger.needsRehash(oldArgon2));
+
+        // argon2 메모리 비용을 바꾼 경우
+        PasswordService moreMemory = service(Argon2PasswordHasher.ALGORITHM, bcrypt4, new Argon2PasswordHasher(2048, 1, 1));
+        assertTrue(moreMemory.matches("1234", oldArgon2));
+        assertTrue(moreMemory.needsRehash(oldArgon2));
+    }
+
+    @Test
+    void saturatedExecutorFailsFast() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        PasswordService service = new PasswordService(List.of(bcrypt4, argon2), BCryptPasswordHasher.ALGORITHM, rejecting, 1000, false);
+
+        assertThrows(RuntimeException.class, () -> service.hash("1234"));
+    }
+
+    @Test
+    void timedOutTaskIsCancelledBeforeItRuns() {
+        // 실행하지 않고 대기열에만 쌓아 두는 executor (스레드가 모두 바쁜 상황)
+        List<Runnable> queue = new ArrayList<>();
+        PasswordHasher hasher = mock(PasswordHasher.class);
+        when(hasher.algorithm()).thenReturn(BCryptPasswordHasher.ALGORITHM);
+        PasswordService service = new PasswordService(List.of(hasher), BCryptPasswordHasher.ALGORITHM, queue::add, 50, false);
+
+        assertThrows(RuntimeException.class, () -> service.hash("1234"));
+
+        // 나중에 스레드가 비어 대기열의 작업을 꺼내도 취소된 해시는 계산하지 않음
+        queue.forEach(Runnable::run);
+        verify(hasher, never()).hash(any());
+    }
+
+    private PasswordService service(String algorithm, PasswordHasher... hashers) {
+        return new PasswordService(List.of(hashers), algorithm, Runnable::run, 5000, false);
+    }
+}
@@ -0,0 +1,78 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.dto.RoomSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인기 키워드 증분 집계의 생성/수정/삭제 반영과 동시 갱신 결과 검증 (DB 없이 실행)
+ */
+class TopKeywordServiceTest {
+
+    private TopKeywordService keywordService;
+
+    @BeforeEach
+    void setUp() {
+        keywordService = new TopKeywordService(null, new KeywordTokenizer(KeywordTokenizer.DEFAULT_STOPWORDS));
+    }
+
+    @Test
+    void countsTitlePlaceAndPetTypesWithoutStopwords() {
+        keywordService.update(new RoomSearchDocument(1L, "해운대 산책 모임!", "설명은 집계하지 않음",
+                "부산 해운대", List.of("푸들", "푸들")));
+        keywordService.update(new RoomSearchDocument(2L, "광안리 산책", null, "부산 광안리", List.of("포메")));
+
+        List<String> top = keywordService.getTopKeywords(3);
+
+        // 광안리, 부산, 산책, 푸들, 해운대 모두 2회 -> 빈도가 같으면 사전 순
+        assertEquals(List.of("광안리", "부산", "산책"), top);
+        assertTrue(keywordService.getTopKeywords(20).stream().noneMatch(word -> word.equals("설명은")));
+    }
+
+    @Test
+    void updateAndRemoveReplaceRoomWords() {
+        keywordService.update(new RoomSearchDocument(1L, "강아지 산책", null, "서면", List.of()));
+        keywordService.update(new RoomSearchDocument(2L, "강아지 놀이", null, "서면", List.of()));
+        assertEquals("강아지", keywordService.getTopKeywords(1).get(0));
+
+        // 1번 방 제목 변경, 2번 방 삭제 -> 강아지는 더 이상 집계되지 않음
+        keywordService.update(new RoomSearchDocument(1L, "고양이 산책", null, "서면", List.of()));
+        keywordService.remove(2L);
+
+        assertEquals(List.of("고양이", "산책", "서면"), keywordService.getTopKeywords(5));
+    }
+
+    @Test
+    void concurrentUpdatesKeepExactCounts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Runnable> tasks = new ArrayList<>();
+        for (long roomId = 1; roomId <= 500; roomId++) {
+            long id = roomId;
+            String place = id % 5 == 0 ? "해운대" : "서면";
+            tasks.add(() -> keywordService.update(new RoomSearchDocument(id, "산책 모임", null, place, List.of())));
+            if (id % 2 == 0) {
+                tasks.add(() -> keywordService.remove(id));
+            }
+        }
+        tasks.forEach(executor::execute);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // 삭제가 먼저 실행되었을 수 있으므로 짝수 방은 다시 삭제하여 상태를 확정
+        for (long roomId = 2; roomId <= 500; roomId += 2) {
+            keywordService.remove(roomId);
+        }
+
+        // 남은 방 250개: 산책/모임 250, 서면 200, 해운대 50
+        assertEquals(List.of("모임", "산책", "서면", "해운대"), keywordService.getTopKeywords(4));
+    }
+}
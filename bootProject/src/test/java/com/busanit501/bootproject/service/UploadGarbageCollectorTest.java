@@ -0,0 +1,93 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.repository.MatchingRoomRepository;
+import com.busanit501.bootproject.repository.PetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참조되지 않고 유예 기간이 지난 업로드 파일만 삭제되는지 검증
+ */
+class UploadGarbageCollectorTest {
+
+    @TempDir
+    Path root;
+
+    private ImageStorageService storage;
+    private MatchingRoomRepository roomRepository;
+    private PetRepository petRepository;
+    private UploadGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new ImageStorageService(root.toString(), Runnable::run);
+        roomRepository = mock(MatchingRoomRepository.class);
+        petRepository = mock(PetRepository.class);
+        collector = new UploadGarbageCollector(storage, roomRepository, petRepository, 60);
+    }
+
+    @Test
+    void releaseDeletesOnlyUnreferencedExpiredFiles() throws IOException {
+        String used = upload("used");
+        String unused = upload("unused");
+        String recent = upload("recent");
+        age(used);
+        age(unused);
+        when(roomRepository.countByProfilePicture(used)).thenReturn(1L);
+
+        assertFalse(collector.releaseIfUnreferenced(used));
+        assertTrue(collector.releaseIfUnreferenced(unused));
+        // 방금 올린 파일은 아직 매칭방에 저장되기 전일 수 있으므로 유지
+        assertFalse(collector.releaseIfUnreferenced(recent));
+
+        assertTrue(Files.exists(storage.resolve(used)));
+        assertFalse(Files.exists(storage.resolve(unused)));
+        assertTrue(Files.exists(storage.resolve(recent)));
+    }
+
+    @Test
+    void sweepRemovesUnreferencedFilesAndLeftoverTemps() throws IOException {
+        String roomImage = upload("room");
+        String petImage = upload("pet");
+        String orphan = upload("orphan");
+        Path temp = Files.createTempFile(root, ImageStorageService.TEMP_PREFIX, ".tmp");
+        for (String url : List.of(roomImage, petImage, orphan)) {
+            age(url);
+        }
+        Files.setLastModifiedTime(temp, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        when(roomRepository.findAllProfilePictures()).thenReturn(List.of(roomImage));
+        when(petRepository.findAllProfilePictures()).thenReturn(List.of(petImage, "/img/pet-default.svg"));
+
+        assertEquals(1, collector.sweep());
+
+        assertTrue(Files.exists(storage.resolve(roomImage)));
+        assertTrue(Files.exists(storage.resolve(petImage)));
+        assertFalse(Files.exists(storage.resolve(orphan)));
+        assertFalse(Files.exists(temp));
+    }
+
+    private String upload(String content) throws IOException {
+        // 이미지가 아닌 확장자는 축소본 없이 원본만 저장됨
+        return storage.store(new MockMultipartFile("imageFile", content + ".txt", "text/plain", content.getBytes()));
+    }
+
+    private void age(String url) throws IOException {
+        Files.setLastModifiedTime(storage.resolve(url), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    }
+}
@@ -0,0 +1,166 @@
+package com.busanit501.bootproject.service;
+
+import com.busanit501.bootproject.domain.User;
+import com.busanit501.bootproject.dto.LoginUserPrincipal;
+import com.busanit501.bootproject.dto.UserLoginDTO;
+import com.busanit501.bootproject.repository.PetRepository;
+import com.busanit501.bootproject.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 로그인 정보, 로그인 사용자 조회 캐시, 로그인 시 비밀번호 재해시 검증
+ */
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private PasswordService passwordService;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordService = mock(PasswordService.class);
+        userService = new UserService(userRepository, mock(PetRepository.class), passwordService,
+                mock(PlatformTransactionManager.class), 30, 100);
+    }
+
+    @Test
+    void loginUserLookupIsCachedUntilEvicted() {
+        User user = User.builder().userId(1L).name("홍길동").password("secret").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertSame(user, userService.findLoginUser(1L));
+        assertSame(user, userService.findLoginUser(1L));
+        verify(userRepository, times(1)).findById(1L);
+
+        userService.evictLoginUser(1L);
+        userService.findLoginUser(1L);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertNull(userService.findLoginUser(2L));
+        assertNull(userService.findLoginUser(2L));
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void principalSurvivesSerializationWithoutPassword() throws IOException, ClassNotFoundException {
+        User user = User.builder().userId(3L).name("김철수").email("kim@test.com").password("secret").build();
+        LoginUserPrincipal principal = LoginUserPrincipal.from(user);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(principal);
+        }
+        Object restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = in.readObject();
+        }
+
+        assertEquals(principal, restored);
+        assertTrue(principal.hasRole(LoginUserPrincipal.ROLE_USER));
+        assertFalse(bytes.toString().contains("secret"));
+    }
+
+    @Test
+    void plaintextPasswordIsRehashedOnLogin() {
+        assertRehashedOnLogin("1234");
+    }
+
+    @Test
+    void outdatedHashIsRehashedOnLogin() {
+        assertRehashedOnLogin("$2a$04$outdatedcosthash");
+    }
+
+    @Test
+    void currentHashIsNotRewrittenOnLogin() {
+        givenStoredPassword(5L, "$argon2id$current");
+        when(passwordService.matches("1234", "$argon2id$current")).thenReturn(true);
+        when(passwordService.needsRehash("$argon2id$current")).thenReturn(false);
+
+        User user = userService.login(loginDto());
+
+        assertEquals("$argon2id$current", user.getPassword());
+        verify(passwordService, never()).hash(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void rehashKeepsStoredValueWhenPasswordChangedConcurrently() {
+        givenStoredPassword(6L, "1234");
+        when(passwordService.matches("1234", "1234")).thenReturn(true);
+        when(passwordService.needsRehash("1234")).thenReturn(true);
+        when(passwordService.hash("1234")).thenReturn("$argon2id$new");
+        // 그 사이 다른 요청이 비밀번호를 바꿔 조건부 UPDATE 가 실패한 경우
+        when(userRepository.updatePassword(6L, "1234", "$argon2id$new")).thenReturn(0);
+
+        User user = userService.login(loginDto());
+
+        assertEquals("1234", user.getPassword());
+    }
+
+    @Test
+    void wrongPasswordIsNotRehashed() {
+        givenStoredPassword(7L, "1234");
+        when(passwordService.matches("4321", "1234")).thenReturn(false);
+        UserLoginDTO dto = loginDto();
+        dto.setPassword("4321");
+
+        assertThrows(RuntimeException.class, () -> userService.login(dto));
+        verify(userRepository, never()).updatePassword(any(), any(), any());
+    }
+
+    private void assertRehashedOnLogin(String stored) {
+        givenStoredPassword(4L, stored);
+        when(passwordService.matches("1234", stored)).thenReturn(true);
+        when(passwordService.needsRehash(stored)).thenReturn(true);
+        when(passwordService.hash("1234")).thenReturn("$argon2id$new");
+        when(userRepository.updatePassword(4L, stored, "$argon2id$new")).thenReturn(1);
+
+        User user = userService.login(loginDto());
+
+        // 조회 시점의 값을 조건으로 새 해시를 저장 (compare-and-set)
+        verify(userRepository).updatePassword(4L, stored, "$argon2id$new");
+        assertEquals("$argon2id$new", user.getPassword());
+    }
+
+    private void givenStoredPassword(Long userId, String stored) {
+        User user = User.builder().userId(userId).email("login@test.com").password(stored).build();
+        when(userRepository.findByEmail("login@test.com")).thenReturn(Optional.of(user));
+    }
+
+    private UserLoginDTO loginDto() {
+        UserLoginDTO dto = new UserLoginDTO();
+        dto.setEmail("login@test.com");
+        dto.setPassword("1234");
+        return dto;
+    }
+}
@@ -0,0 +1,84 @@
+-- Flyway 도입 전 운영 DB 와 같은 모양의 스키마 (ddl-auto=update 가 MariaDB 에 만든 DDL, FlywayBaselineMigrationTest)
+-- 제약 이름은 하이버네이트가 만든 이름, enum 컬럼은 MariaDB 네이티브 enum, flyway_schema_history 없음
+create table users (
+    user_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    address varchar(255) not null,
+    age bigint not null,
+    email varchar(255) not null,
+    gender enum ('MALE','FEMALE') not null,
+    is_verified bit not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone_number varchar(255) not null,
+    primary key (user_id)
+);
+
+create table pets (
+    pet_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    age bigint not null,
+    gender enum ('MALE','FEMALE') not null,
+    is_default bit not null,
+    name varchar(255) not null,
+    personality varchar(255) not null,
+    profile_picture varchar(255),
+    type varchar(255) not null,
+    weight float(53) not null,
+    user_id bigint not null,
+    primary key (pet_id)
+);
+
+create table matching_rooms (
+    room_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    description TEXT not null,
+    max_participants bigint not null,
+    meeting_date date not null,
+    meeting_time time not null,
+    place varchar(255) not null,
+    profile_picture varchar(255),
+    title varchar(255) not null,
+    user_id bigint not null,
+    primary key (room_id)
+);
+
+create table room_participants (
+    participant_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    status enum ('Pending','Accepted','Rejected') not null,
+    matching_room_id bigint not null,
+    pet_id bigint not null,
+    user_id bigint not null,
+    primary key (participant_id)
+);
+
+create table calendar (
+    schedule_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    matching bit,
+    schedul_end time,
+    schedul_start time,
+    schedule_name varchar(255) not null,
+    status enum ('SCHEDULED','COMPLETED','CANCELLED','POSTPONED') not null,
+    walk_date date not null,
+    walk_place varchar(255) not null,
+    walk_time time not null,
+    user_id bigint not null,
+    primary key (schedule_id)
+);
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UK9q63snka3mdh91as4io72espi unique (phone_number);
+alter table pets add constraint FKahvqjs3bd5bh5j7e5wqcy5l2a foreign key (user_id) references users (user_id);
+alter table matching_rooms add constraint FKq5ynt2dv0m5n3ntuy3d5rth8w foreign key (user_id) references users (user_id);
+alter table room_participants add constraint FKrk4r5y7eaf8n0j0dwpbj2wk5s
+    foreign key (matching_room_id) references matching_rooms (room_id) on delete cascade;
+alter table room_participants add constraint FK8mkwj4omtvjwtbu2w8o07qh9f foreign key (user_id) references users (user_id);
+alter table room_participants add constraint FKl6t2cx0xaa7s1hggmd5u2sdha foreign key (pet_id) references pets (pet_id);
+alter table calendar add constraint FKfrh2b9fy6ktufqr0e8n2q0vqm foreign key (user_id) references users (user_id);